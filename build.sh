@@ -0,0 +1,51 @@
+#!/bin/sh
+# Build the engine core, the desktop app, a jlink runtime image of the core
+# and an AppCDS archive for fast headless startup. Everything goes to build/.
+#
+#   build/chess-core.jar    modular engine jar (module chess.core, no java.desktop)
+#   build/chess.jar         Swing app, run with: java -cp build/chess-core.jar:build/chess.jar main.ChessGame
+#   build/core-image/       jlink runtime with only the modules the core needs
+#   build/core.jsa          AppCDS archive of the classes loaded by a headless analysis
+#   build/analyze           launcher: build/analyze [-movetime <millis>] [<fen>]
+#   build/bench             launcher: build/bench [<threads>]
+set -e
+
+cd "$(dirname "$0")"
+JAVA_BIN=${JAVA_HOME:+$JAVA_HOME/bin/}
+BUILD=build
+
+rm -rf "$BUILD"
+mkdir -p "$BUILD/classes/core" "$BUILD/classes/app"
+
+# Engine core as a named module
+"${JAVA_BIN}javac" -d "$BUILD/classes/core" $(find core/src -name '*.java')
+"${JAVA_BIN}jar" --create --file "$BUILD/chess-core.jar" --main-class engine.Analyze -C "$BUILD/classes/core" .
+
+# Desktop app on the class path, against the core jar
+"${JAVA_BIN}javac" -cp "$BUILD/chess-core.jar" -d "$BUILD/classes/app" $(find src -name '*.java')
+"${JAVA_BIN}jar" --create --file "$BUILD/chess.jar" --main-class main.ChessGame -C "$BUILD/classes/app" .
+
+# Minimal runtime image; the vector module is included but only resolved on request
+"${JAVA_BIN}jlink" --module-path "$BUILD/chess-core.jar" \
+    --add-modules chess.core,jdk.incubator.vector \
+    --strip-debug --no-header-files --no-man-pages \
+    --generate-cds-archive \
+    --output "$BUILD/core-image"
+
+# Train the AppCDS archive with a typical short analysis
+"$BUILD/core-image/bin/java" -XX:ArchiveClassesAtExit="$BUILD/core.jsa" -Xlog:cds=off \
+    -m chess.core/engine.Analyze -movetime 20 > /dev/null
+
+cat > "$BUILD/analyze" <<'LAUNCHER'
+#!/bin/sh
+DIR=$(dirname "$0")
+exec "$DIR/core-image/bin/java" -XX:SharedArchiveFile="$DIR/core.jsa" -XX:TieredStopAtLevel=1 \
+    -m chess.core/engine.Analyze "$@"
+LAUNCHER
+chmod +x "$BUILD/analyze"
+
+cat > "$BUILD/bench" <<'LAUNCHER'
+#!/bin/sh
+exec "$(dirname "$0")/core-image/bin/java" -m chess.core/engine.Bench "$@"
+LAUNCHER
+chmod +x "$BUILD/bench"
@@ -0,0 +1,32 @@
+// File: core/src/ai/AnalysisLine.java
+package ai;
+
+import game.Move;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One line of multi-PV analysis: a root move, its score and the expected continuation
+ */
+public class AnalysisLine {
+    private final Move move;
+    private final int score;
+    private final List<Move> principalVariation;
+
+    public AnalysisLine(Move move, int score, List<Move> principalVariation) {
+        this.move = move;
+        this.score = score;
+        this.principalVariation = Collections.unmodifiableList(principalVariation);
+    }
+
+    // Getters
+    public Move getMove() { return move; }
+    public int getScore() { return score; }
+    public List<Move> getPrincipalVariation() { return principalVariation; }
+
+    @Override
+    public String toString() {
+        return String.format("%d %s", score, principalVariation);
+    }
+}
@@ -0,0 +1,706 @@
+// File: core/src/ai/ChessAI.java
+package ai;
+
+import game.Board;
+import game.Move;
+import game.Player;
+import pieces.*;
+import profiling.BestMoveChangeEvent;
+import profiling.EngineCounters;
+import profiling.SearchIterationEvent;
+import profiling.SearchPhaseEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Chess AI implementation using Minimax algorithm with Alpha-Beta pruning
+ */
+public class ChessAI {
+    private static final int MAX_DEPTH = 4;
+    private static final int MATE_SCORE = 100000;
+    // Scores beyond this are mates; the distance to mate is MATE_SCORE minus the score
+    private static final int MATE_THRESHOLD = MATE_SCORE - 1000;
+    private static final int MAX_CHECK_EXTENSIONS = 2;
+    private static final int SEE_PRUNING_DEPTH = 1;
+    private static final int DRAW_SCORE = 0;
+    private static final int MIN_PERSISTENT_DEPTH = 3;
+    private static final int DEFAULT_HASH_ENTRIES = 1 << 16;
+    // The clock is read once per this many nodes; node limits are checked at every node
+    private static final int TIME_CHECK_MASK = 255;
+    private Player aiPlayer;
+    private Random random;
+
+    // Optional per-move limits; with neither set the search goes straight to maxDepth
+    private int maxDepth = MAX_DEPTH;
+    private long moveTimeLimitMillis;
+    private long nodeLimit;
+    private long deadline;
+    private boolean stopped;
+    private long nodes;
+
+    // Largest random amount added to an evaluation, and the per-search salt mixed into it
+    private int evalNoise;
+    private long noiseSalt;
+
+    // Results of earlier deep searches, possibly from previous runs
+    private PersistentTranspositionStore persistentStore;
+
+    // Search results shared between iterations and analysis lines
+    private TranspositionTable transpositionTable;
+
+    private EvalWeights weights;
+    private final int[] features = new int[EvalWeights.COUNT];
+
+    // Neural network evaluation replacing the weighted features when a network is configured
+    private NnueEvaluator nnue;
+
+    // One move picker per ply, and the last two quiet moves that caused a cutoff at each ply
+    private MovePicker[] pickers = new MovePicker[0];
+    private Move[][] killers = new Move[0][];
+
+    public ChessAI(Player aiPlayer) {
+        this(aiPlayer, new TranspositionTable(DEFAULT_HASH_ENTRIES));
+    }
+
+    /**
+     * Create an AI using the given transposition table, which may be shared with AIs on other threads
+     */
+    public ChessAI(Player aiPlayer, TranspositionTable transpositionTable) {
+        this.aiPlayer = aiPlayer;
+        this.random = new Random();
+        this.persistentStore = PersistentTranspositionStore.shared();
+        this.weights = EvalWeights.startup();
+        this.transpositionTable = transpositionTable;
+        NnueNetwork network = NnueNetwork.startup();
+        this.nnue = network != null ? new NnueEvaluator(network) : null;
+    }
+
+    /**
+     * Limit the time spent on each move. With a limit the search deepens one ply at a time
+     * and returns the best move of the last completed depth.
+     */
+    public void setMoveTimeLimit(long millis) {
+        this.moveTimeLimitMillis = millis;
+    }
+
+    /**
+     * Limit the nodes searched for each move. With a limit the search deepens one ply at a time
+     * and returns the best move of the last completed depth; 0 removes the limit.
+     */
+    public void setNodeLimit(long nodes) {
+        this.nodeLimit = nodes;
+    }
+
+    /**
+     * Set the deepest search depth, {@value #MAX_DEPTH} by default
+     */
+    public void setMaxDepth(int depth) {
+        this.maxDepth = depth;
+    }
+
+    /**
+     * Apply a strength profile: its depth, node budget, move time and evaluation noise
+     */
+    public void setDifficulty(Difficulty difficulty) {
+        this.maxDepth = difficulty.getMaxDepth();
+        this.nodeLimit = difficulty.getNodeLimit();
+        this.moveTimeLimitMillis = difficulty.getMoveTimeMillis();
+        this.evalNoise = difficulty.getEvalNoise();
+    }
+
+    /**
+     * Resize the transposition table, clearing it
+     */
+    public void setHashSize(int entries) {
+        transpositionTable.resize(entries);
+    }
+
+    /**
+     * Replace the evaluation weights
+     */
+    public void setWeights(EvalWeights weights) {
+        this.weights = weights;
+    }
+
+    /**
+     * Evaluate with a neural network, or with the weighted features if null
+     */
+    public void setNetwork(NnueNetwork network) {
+        this.nnue = network != null ? new NnueEvaluator(network) : null;
+    }
+
+    /**
+     * Use a persistent store for root results, or null to disable it
+     */
+    public void setPersistentStore(PersistentTranspositionStore store) {
+        this.persistentStore = store;
+    }
+
+    /**
+     * Get the best move for the AI using Minimax algorithm
+     */
+    public Move getBestMove(Board board) {
+        if (nnue == null) {
+            return findBestMove(board);
+        }
+        nnue.attach(board);
+        try {
+            return findBestMove(board);
+        } finally {
+            nnue.detach(board);
+        }
+    }
+
+    private Move findBestMove(Board board) {
+        EngineCounters.refresh();
+        List<Move> validMoves = generateRootMoves(board);
+        if (validMoves.isEmpty()) {
+            return null;
+        }
+
+        // Answer straight from the persistent store if this position was searched deep enough;
+        // noisy evaluations, and evaluations other than the store's, neither use nor pollute it
+        boolean useStore = persistentStore != null && board.getCurrentPlayer() == aiPlayer && evalNoise == 0
+                && persistentStore.getFingerprint() == PersistentTranspositionStore.fingerprint(
+                        weights, nnue != null ? nnue.getNetwork() : null);
+        if (useStore) {
+            PersistentTranspositionStore.Entry entry = persistentStore.probe(board.getHash());
+            if (entry != null && entry.getDepth() >= maxDepth
+                    && entry.getBound() == PersistentTranspositionStore.BOUND_EXACT
+                    && validMoves.contains(entry.getBestMove())) {
+                Move move = validMoves.get(validMoves.indexOf(entry.getBestMove()));
+                move.setScore(entry.getScore());
+                return move;
+            }
+        }
+
+        startSearch();
+        Move bestMove;
+        int completedDepth;
+        if (moveTimeLimitMillis <= 0 && nodeLimit <= 0) {
+            deadline = Long.MAX_VALUE;
+            bestMove = searchRoot(board, validMoves, maxDepth);
+            completedDepth = maxDepth;
+        } else {
+            // Iterative deepening until the time or node budget runs out
+            deadline = moveTimeLimitMillis > 0
+                    ? System.nanoTime() + moveTimeLimitMillis * 1_000_000L
+                    : Long.MAX_VALUE;
+            bestMove = validMoves.get(0);
+            completedDepth = 0;
+            for (int depth = 1; depth <= maxDepth; depth++) {
+                Move move = searchRoot(board, validMoves, depth);
+                if (stopped) {
+                    break;
+                }
+                bestMove = move;
+                completedDepth = depth;
+            }
+        }
+        if (EngineCounters.enabled) EngineCounters.SEARCH_NODES.add(nodes);
+
+        if (useStore && completedDepth >= MIN_PERSISTENT_DEPTH) {
+            persistentStore.store(board.getHash(), completedDepth, PersistentTranspositionStore.BOUND_EXACT,
+                    bestMove.getScore(), bestMove);
+        }
+        return bestMove;
+    }
+
+    /**
+     * Find the best lines for the AI: the top moves ranked by score, each with its principal variation.
+     * Each line searches the root moves not yet reported, so the transposition table filled by
+     * earlier lines makes the later ones much cheaper than separate searches.
+     */
+    public List<AnalysisLine> analyze(Board board, int lineCount) {
+        if (nnue == null) {
+            return findLines(board, lineCount);
+        }
+        nnue.attach(board);
+        try {
+            return findLines(board, lineCount);
+        } finally {
+            nnue.detach(board);
+        }
+    }
+
+    private List<AnalysisLine> findLines(Board board, int lineCount) {
+        EngineCounters.refresh();
+        List<Move> remaining = generateRootMoves(board);
+        List<AnalysisLine> lines = new ArrayList<>();
+        // Analysis reports true scores to full depth, whatever the playing strength
+        long playingNodeLimit = nodeLimit;
+        int playingEvalNoise = evalNoise;
+        nodeLimit = 0;
+        evalNoise = 0;
+        startSearch();
+        deadline = Long.MAX_VALUE;
+
+        try {
+            while (lines.size() < lineCount && !remaining.isEmpty()) {
+                Move best = searchRoot(board, remaining, maxDepth);
+                remaining.remove(best);
+
+                SearchPhaseEvent phase = beginPhase();
+                lines.add(new AnalysisLine(best, best.getScore(), principalVariation(board, best)));
+                endPhase(phase, "analysis line extraction");
+            }
+        } finally {
+            nodeLimit = playingNodeLimit;
+            evalNoise = playingEvalNoise;
+        }
+        if (EngineCounters.enabled) EngineCounters.SEARCH_NODES.add(nodes);
+        return lines;
+    }
+
+    /**
+     * Score a single root move from the AI's point of view by searching the replies up to the
+     * given depth. With a move time limit the deepest completed depth counts; depth 1 always completes.
+     */
+    public int scoreMove(Board board, Move move, int depth) {
+        if (nnue == null) {
+            return searchMove(board, move, depth);
+        }
+        nnue.attach(board);
+        try {
+            return searchMove(board, move, depth);
+        } finally {
+            nnue.detach(board);
+        }
+    }
+
+    private int searchMove(Board board, Move move, int depth) {
+        // Only the move time limit applies, so scores are comparable between moves
+        long playingNodeLimit = nodeLimit;
+        int playingEvalNoise = evalNoise;
+        nodeLimit = 0;
+        evalNoise = 0;
+        startSearch();
+        deadline = Long.MAX_VALUE;
+        board.make(move);
+        try {
+            int score = minimax(board, 0, Integer.MIN_VALUE, Integer.MAX_VALUE, false, 1, 0);
+            if (moveTimeLimitMillis > 0) {
+                deadline = System.nanoTime() + moveTimeLimitMillis * 1_000_000L;
+            }
+            for (int searchDepth = 2; searchDepth <= depth; searchDepth++) {
+                int deeperScore = minimax(board, searchDepth - 1, Integer.MIN_VALUE, Integer.MAX_VALUE, false, 1, 0);
+                if (stopped) {
+                    break;
+                }
+                score = deeperScore;
+            }
+            return score;
+        } finally {
+            board.unmake();
+            nodeLimit = playingNodeLimit;
+            evalNoise = playingEvalNoise;
+        }
+    }
+
+    /**
+     * Number of nodes visited by the last search
+     */
+    public long getNodeCount() {
+        return nodes;
+    }
+
+    private List<Move> generateRootMoves(Board board) {
+        SearchPhaseEvent phase = beginPhase();
+        List<Move> moves = board.getAllValidMoves(aiPlayer);
+        endPhase(phase, "root move generation");
+        return moves;
+    }
+
+    /**
+     * Start timing a search phase, or return null if Flight Recorder is not running
+     */
+    private static SearchPhaseEvent beginPhase() {
+        if (!EngineCounters.recording()) {
+            return null;
+        }
+        SearchPhaseEvent phase = new SearchPhaseEvent();
+        phase.begin();
+        return phase;
+    }
+
+    private static void endPhase(SearchPhaseEvent phase, String name) {
+        if (phase != null) {
+            phase.phase = name;
+            phase.commit();
+        }
+    }
+
+    /**
+     * Follow the best moves stored in the transposition table after a root move
+     */
+    private List<Move> principalVariation(Board board, Move rootMove) {
+        List<Move> line = new ArrayList<>();
+        Move move = rootMove;
+        Player player = aiPlayer;
+
+        while (move != null && line.size() < maxDepth) {
+            line.add(move);
+            board.make(move);
+            player = player.getOpponent();
+            if (board.isRepetition()) {
+                break;
+            }
+
+            long entry = transpositionTable.probe(board.getHash());
+            move = entry != 0 ? TranspositionTable.move(entry) : null;
+            if (move != null && !board.getAllValidMoves(player).contains(move)) {
+                move = null;
+            }
+        }
+
+        for (int i = 0; i < line.size(); i++) {
+            board.unmake();
+        }
+        return line;
+    }
+
+    /**
+     * Search every root move to the given depth and return the best one
+     */
+    private Move searchRoot(Board board, List<Move> validMoves, int depth) {
+        SearchIterationEvent iteration = EngineCounters.recording() ? new SearchIterationEvent() : null;
+        if (iteration != null) {
+            iteration.begin();
+        }
+        Move bestMove = null;
+        int bestScore = Integer.MIN_VALUE;
+
+        for (Move move : validMoves) {
+            // Make the move temporarily
+            board.make(move);
+
+            // Evaluate using minimax; moves that cannot beat the best so far are cut off early
+            int score = minimax(board, depth - 1, bestScore,
+                    Integer.MAX_VALUE, false, 1, 0);
+
+            // Undo the move
+            board.unmake();
+
+            if (stopped) {
+                break;
+            }
+            if (score > bestScore) {
+                reportBestMoveChange(depth, move, score, bestMove);
+                bestScore = score;
+                bestMove = move;
+            }
+        }
+
+        if (iteration != null && iteration.shouldCommit()) {
+            iteration.depth = depth;
+            iteration.score = bestScore;
+            iteration.nodes = nodes;
+            iteration.bestMove = String.valueOf(bestMove);
+            iteration.completed = !stopped;
+            iteration.commit();
+        }
+        if (!stopped) {
+            bestMove.setScore(bestScore);
+        }
+        return bestMove;
+    }
+
+    private void reportBestMoveChange(int depth, Move move, int score, Move previousMove) {
+        if (!EngineCounters.recording()) {
+            return;
+        }
+        BestMoveChangeEvent event = new BestMoveChangeEvent();
+        if (event.shouldCommit()) {
+            event.depth = depth;
+            event.move = move.toString();
+            event.score = score;
+            event.previousMove = String.valueOf(previousMove);
+            event.commit();
+        }
+    }
+
+    /**
+     * Minimax algorithm with Alpha-Beta pruning.
+     * Mates are scored by distance from the root so faster mates score higher; a side in check
+     * is searched one ply deeper, up to {@value #MAX_CHECK_EXTENSIONS} times along a line.
+     */
+    private int minimax(Board board, int depth, int alpha, int beta, boolean maximizing,
+                        int ply, int extensions) {
+        if (stopped) {
+            return 0;
+        }
+        if ((nodeLimit > 0 && nodes >= nodeLimit)
+                || ((nodes & TIME_CHECK_MASK) == 0 && System.nanoTime() > deadline)) {
+            stopped = true;
+            return 0;
+        }
+        nodes++;
+
+        // Repeated positions and the fifty-move rule end the line as a draw
+        if (board.isRepetition() || board.isFiftyMoveDraw()) {
+            return DRAW_SCORE;
+        }
+
+        // Mate-distance pruning: no line from here can beat a mate found closer to the root
+        int worst = maximizing ? -(MATE_SCORE - ply) : -(MATE_SCORE - ply - 1);
+        int best = maximizing ? MATE_SCORE - ply - 1 : MATE_SCORE - ply;
+        alpha = Math.max(alpha, worst);
+        beta = Math.min(beta, best);
+        if (alpha >= beta) {
+            return maximizing ? alpha : beta;
+        }
+
+        Player currentPlayer = maximizing ? aiPlayer : aiPlayer.getOpponent();
+        boolean inCheck = board.isKingInCheck(currentPlayer);
+
+        // Check extension
+        if (inCheck && extensions < MAX_CHECK_EXTENSIONS) {
+            depth++;
+            extensions++;
+        }
+
+        if (depth == 0 || board.isGameOver()) {
+            return evaluatePosition(board);
+        }
+
+        // Use a stored result from an earlier search of this position
+        long key = board.getHash();
+        long entry = transpositionTable.probe(key);
+        if (entry != 0 && TranspositionTable.depth(entry) >= depth) {
+            int storedScore = fromStoredScore(TranspositionTable.score(entry), ply);
+            int bound = TranspositionTable.bound(entry);
+            if (bound == TranspositionTable.EXACT
+                    || (bound == TranspositionTable.LOWER && storedScore >= beta)
+                    || (bound == TranspositionTable.UPPER && storedScore <= alpha)) {
+                return storedScore;
+            }
+        }
+
+        // Moves are generated in stages, starting with the stored best move
+        MovePicker picker = pickerAt(ply);
+        picker.reset(board, currentPlayer, entry != 0 ? TranspositionTable.move(entry) : null,
+                killers[ply][0], killers[ply][1]);
+
+        // Near the leaves, captures losing material by exchange are skipped: with no quiescence
+        // search the evaluation after them would not see the recapture
+        boolean pruneLosingCaptures = depth <= SEE_PRUNING_DEPTH && !inCheck;
+        Player opponent = currentPlayer.getOpponent();
+
+        int originalAlpha = alpha;
+        int originalBeta = beta;
+        int bestEval;
+        Move bestMove = null;
+        int moveCount = 0;
+        Move move;
+        if (maximizing) {
+            bestEval = Integer.MIN_VALUE;
+            while ((move = picker.next()) != null) {
+                if (pruneLosingCaptures && moveCount > 0 && picker.isLosingCapture() && !givesCheck(board, move, opponent)) {
+                    continue;
+                }
+                moveCount++;
+                boolean quiet = board.getPiece(move.getToRow(), move.getToCol()) == null;
+                board.make(move);
+                int eval = minimax(board, depth - 1, alpha, beta, false, ply + 1, extensions);
+                board.unmake();
+                if (stopped) {
+                    break;
+                }
+
+                if (eval > bestEval) {
+                    bestEval = eval;
+                    bestMove = move;
+                }
+                alpha = Math.max(alpha, eval);
+                if (beta <= alpha) {
+                    if (quiet) storeKiller(ply, move);
+                    break; // Alpha-Beta pruning
+                }
+            }
+        } else {
+            bestEval = Integer.MAX_VALUE;
+            while ((move = picker.next()) != null) {
+                if (pruneLosingCaptures && moveCount > 0 && picker.isLosingCapture() && !givesCheck(board, move, opponent)) {
+                    continue;
+                }
+                moveCount++;
+                boolean quiet = board.getPiece(move.getToRow(), move.getToCol()) == null;
+                board.make(move);
+                int eval = minimax(board, depth - 1, alpha, beta, true, ply + 1, extensions);
+                board.unmake();
+                if (stopped) {
+                    break;
+                }
+
+                if (eval < bestEval) {
+                    bestEval = eval;
+                    bestMove = move;
+                }
+                beta = Math.min(beta, eval);
+                if (beta <= alpha) {
+                    if (quiet) storeKiller(ply, move);
+                    break; // Alpha-Beta pruning
+                }
+            }
+        }
+
+        // No legal moves: checkmate or stalemate
+        if (moveCount == 0) {
+            if (inCheck) {
+                return maximizing ? -(MATE_SCORE - ply) : MATE_SCORE - ply;
+            }
+            return DRAW_SCORE;
+        }
+
+        // Noisy scores depend on this search's salt, so they are kept out of the shared table
+        if (!stopped && evalNoise == 0) {
+            int bound = bestEval <= originalAlpha ? TranspositionTable.UPPER
+                    : bestEval >= originalBeta ? TranspositionTable.LOWER
+                    : TranspositionTable.EXACT;
+            transpositionTable.store(key, depth, bound, toStoredScore(bestEval, ply), bestMove);
+        }
+        return bestEval;
+    }
+
+    private static boolean givesCheck(Board board, Move move, Player opponent) {
+        board.make(move);
+        boolean check = board.isKingInCheck(opponent);
+        board.unmake();
+        return check;
+    }
+
+    private void startSearch() {
+        stopped = false;
+        nodes = 0;
+        noiseSalt = random.nextLong();
+        clearKillers();
+    }
+
+    private MovePicker pickerAt(int ply) {
+        if (ply >= pickers.length) {
+            int size = Math.max(ply + 1, pickers.length * 2);
+            pickers = Arrays.copyOf(pickers, size);
+            killers = Arrays.copyOf(killers, size);
+            for (int i = 0; i < size; i++) {
+                if (pickers[i] == null) {
+                    pickers[i] = new MovePicker();
+                    killers[i] = new Move[2];
+                }
+            }
+        }
+        return pickers[ply];
+    }
+
+    /**
+     * Remember a quiet move that caused a cutoff, to be tried early at the same ply elsewhere in the tree
+     */
+    private void storeKiller(int ply, Move move) {
+        Move[] slots = killers[ply];
+        if (!move.equals(slots[0])) {
+            slots[1] = slots[0];
+            slots[0] = move;
+        }
+    }
+
+    private void clearKillers() {
+        for (Move[] slots : killers) {
+            Arrays.fill(slots, null);
+        }
+    }
+
+    /**
+     * Convert a mate score to distance from the current node before storing it, so the
+     * entry stays correct when the position is reached at a different ply
+     */
+    private static int toStoredScore(int score, int ply) {
+        if (score > MATE_THRESHOLD) return score + ply;
+        if (score < -MATE_THRESHOLD) return score - ply;
+        return score;
+    }
+
+    private static int fromStoredScore(int score, int ply) {
+        if (score > MATE_THRESHOLD) return score - ply;
+        if (score < -MATE_THRESHOLD) return score + ply;
+        return score;
+    }
+
+    /**
+     * Evaluate the current board position
+     */
+    private int evaluatePosition(Board board) {
+        if (EngineCounters.enabled) EngineCounters.EVALUATIONS.increment();
+        int score;
+        if (nnue != null) {
+            Player sideToMove = board.getCurrentPlayer();
+            score = nnue.evaluate(sideToMove);
+            if (sideToMove != aiPlayer) score = -score;
+        } else {
+            collectFeatures(board, aiPlayer, features);
+            score = weights.evaluate(features);
+        }
+        return evalNoise > 0 ? score + evaluationNoise(board) : score;
+    }
+
+    /**
+     * Noise in [-evalNoise, evalNoise] derived from the position hash, so a position keeps
+     * the same score throughout one search and the transposition table stays consistent
+     */
+    private int evaluationNoise(Board board) {
+        long mixed = (board.getHash() ^ noiseSalt) * 0x9E3779B97F4A7C15L;
+        return (int) ((mixed >>> 33) % (2 * evalNoise + 1)) - evalNoise;
+    }
+
+    /**
+     * Compute the evaluation features from the given player's point of view.
+     * Each feature is the player's count minus the opponent's, indexed as in {@link EvalWeights}.
+     */
+    static void collectFeatures(Board board, Player player, int[] features) {
+        Arrays.fill(features, 0);
+
+        // Material and center control
+        for (int row = 0; row < Board.SIZE; row++) {
+            for (int col = 0; col < Board.SIZE; col++) {
+                Piece piece = board.getPiece(row, col);
+                if (piece != null) {
+                    int sign = piece.getPlayer() == player ? 1 : -1;
+                    int material = materialIndex(piece);
+                    if (material >= 0) {
+                        features[material] += sign;
+                    }
+
+                    if (row >= 2 && row <= 5 && col >= 2 && col <= 5) {
+                        features[EvalWeights.CENTER] += sign;
+                    }
+                    if (row >= 3 && row <= 4 && col >= 3 && col <= 4) {
+                        features[EvalWeights.INNER_CENTER] += sign; // Central squares
+                    }
+                }
+            }
+        }
+
+        // Mobility evaluation, counted pseudo-legally so no moves have to be made and tested
+        features[EvalWeights.MOBILITY] = board.countMobility(player) - board.countMobility(player.getOpponent());
+
+        // King safety
+        if (board.isKingInCheck(player)) {
+            features[EvalWeights.CHECK]--;
+        }
+        if (board.isKingInCheck(player.getOpponent())) {
+            features[EvalWeights.CHECK]++;
+        }
+    }
+
+    /**
+     * Get the material feature of a piece; kings are always on the board and cancel out
+     */
+    private static int materialIndex(Piece piece) {
+        if (piece instanceof Pawn) return EvalWeights.PAWN;
+        if (piece instanceof Knight) return EvalWeights.KNIGHT;
+        if (piece instanceof Bishop) return EvalWeights.BISHOP;
+        if (piece instanceof Rook) return EvalWeights.ROOK;
+        if (piece instanceof Queen) return EvalWeights.QUEEN;
+        return -1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+// File: core/src/ai/Difficulty.java
+package ai;
+
+/**
+ * Strength profiles for {@link ChessAI}. Every level caps the nodes searched and the time
+ * spent per move, so its CPU cost stays bounded whatever the position; weaker levels
+ * also search shallower and add noise to the evaluation.
+ */
+public enum Difficulty {
+    BEGINNER("Beginner", 2, 2_000, 250, 15),
+    EASY("Easy", 3, 10_000, 500, 8),
+    MEDIUM("Medium", 4, 40_000, 1_000, 3),
+    HARD("Hard", 5, 200_000, 2_000, 0);
+
+    private final String label;
+    private final int maxDepth;
+    private final long nodeLimit;
+    private final long moveTimeMillis;
+    private final int evalNoise;
+
+    Difficulty(String label, int maxDepth, long nodeLimit, long moveTimeMillis, int evalNoise) {
+        this.label = label;
+        this.maxDepth = maxDepth;
+        this.nodeLimit = nodeLimit;
+        this.moveTimeMillis = moveTimeMillis;
+        this.evalNoise = evalNoise;
+    }
+
+    // Getters
+    public int getMaxDepth() { return maxDepth; }
+    public long getNodeLimit() { return nodeLimit; }
+    public long getMoveTimeMillis() { return moveTimeMillis; }
+    /** Largest amount added to or subtracted from each evaluation */
+    public int getEvalNoise() { return evalNoise; }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
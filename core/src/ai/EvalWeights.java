@@ -0,0 +1,150 @@
+// File: core/src/ai/EvalWeights.java
+package ai;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Weights of the evaluation terms used by {@link ChessAI}.
+ * Each weight multiplies one feature computed by {@link ChessAI#collectFeatures}.
+ * Weights are stored in a plain text file of "name value" lines.
+ */
+public class EvalWeights {
+    public static final int PAWN = 0;
+    public static final int KNIGHT = 1;
+    public static final int BISHOP = 2;
+    public static final int ROOK = 3;
+    public static final int QUEEN = 4;
+    public static final int CENTER = 5;
+    public static final int INNER_CENTER = 6;
+    public static final int MOBILITY = 7;
+    public static final int CHECK = 8;
+    public static final int COUNT = 9;
+
+    static final String[] NAMES = {
+            "pawn", "knight", "bishop", "rook", "queen",
+            "center", "innerCenter", "mobility", "check"
+    };
+    private static final int[] DEFAULTS = {1, 3, 3, 5, 9, 5, 10, 2, 50};
+
+    /** System property naming the weights file loaded at startup */
+    public static final String FILE_PROPERTY = "chess.evalWeights";
+    private static final String DEFAULT_FILE = "eval-weights.txt";
+
+    private static EvalWeights startupWeights;
+
+    private final int[] values;
+
+    public EvalWeights(int[] values) {
+        if (values.length != COUNT) {
+            throw new IllegalArgumentException("Expected " + COUNT + " weights, got " + values.length);
+        }
+        this.values = values.clone();
+    }
+
+    /**
+     * The hand-picked weights the engine has always used
+     */
+    public static EvalWeights defaults() {
+        return new EvalWeights(DEFAULTS);
+    }
+
+    /**
+     * Get the weights loaded at startup from {@value #FILE_PROPERTY}, or from
+     * {@value #DEFAULT_FILE} if present; falls back to the defaults
+     */
+    public static synchronized EvalWeights startup() {
+        if (startupWeights == null) {
+            Path file = Paths.get(System.getProperty(FILE_PROPERTY, DEFAULT_FILE));
+            startupWeights = defaults();
+            if (Files.exists(file)) {
+                try {
+                    startupWeights = load(file);
+                } catch (IOException e) {
+                    System.err.println("Using default evaluation weights: " + e.getMessage());
+                }
+            }
+        }
+        return startupWeights;
+    }
+
+    /**
+     * Read weights from a file; terms missing from the file keep their default value
+     */
+    public static EvalWeights load(Path file) throws IOException {
+        int[] values = DEFAULTS.clone();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+
+                String[] parts = line.split("\\s+");
+                int index = Arrays.asList(NAMES).indexOf(parts[0]);
+                if (index < 0 || parts.length != 2) {
+                    throw new IOException("Invalid weight line: " + line);
+                }
+                try {
+                    values[index] = Integer.parseInt(parts[1]);
+                } catch (NumberFormatException e) {
+                    throw new IOException("Invalid weight value: " + line, e);
+                }
+            }
+        }
+        return new EvalWeights(values);
+    }
+
+    public void save(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < COUNT; i++) {
+                writer.write(NAMES[i] + " " + values[i]);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Weighted sum of the features
+     */
+    public int evaluate(int[] features) {
+        int score = 0;
+        for (int i = 0; i < COUNT; i++) {
+            score += values[i] * features[i];
+        }
+        return score;
+    }
+
+    /**
+     * Hash of the weight values, identifying this evaluation in stored search results
+     */
+    public long fingerprint() {
+        long hash = COUNT;
+        for (int value : values) {
+            hash = hash * 31 + value;
+        }
+        return hash;
+    }
+
+    public int get(int index) {
+        return values[index];
+    }
+
+    public int[] toArray() {
+        return values.clone();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < COUNT; i++) {
+            sb.append(i == 0 ? "" : ", ").append(NAMES[i]).append('=').append(values[i]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,114 @@
+// File: core/src/ai/MoveHeatmap.java
+package ai;
+
+import game.Board;
+import game.Move;
+import game.Player;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Scores every legal move of a position at once, e.g. to shade move hints in the GUI.
+ *
+ * Each root move gets its own shallow search on a fork-join pool. Searches for the same side
+ * share a transposition table, so positions reached through different root moves are searched
+ * once; each side has its own table, since scores are stored from the searching side's view.
+ * Each scored move is handed to the callback as soon as its search finishes.
+ */
+public class MoveHeatmap {
+    public static final int DEFAULT_DEPTH = 3;
+    public static final long DEFAULT_MOVE_TIME_MILLIS = 250;
+    private static final int HASH_ENTRIES = 1 << 18;
+
+    private final ForkJoinPool pool;
+    private final TranspositionTable whiteTable;
+    private final TranspositionTable blackTable;
+    private final int depth;
+    private final long moveTimeLimitMillis;
+
+    public MoveHeatmap() {
+        this(ForkJoinPool.commonPool(), DEFAULT_DEPTH, DEFAULT_MOVE_TIME_MILLIS);
+    }
+
+    /**
+     * @param moveTimeLimitMillis time allowed for each move beyond depth 1, which bounds how long
+     *                            the whole heatmap takes to fill
+     */
+    public MoveHeatmap(ForkJoinPool pool, int depth, long moveTimeLimitMillis) {
+        this.pool = pool;
+        this.whiteTable = new TranspositionTable(HASH_ENTRIES);
+        this.blackTable = new TranspositionTable(HASH_ENTRIES);
+        this.depth = depth;
+        this.moveTimeLimitMillis = moveTimeLimitMillis;
+    }
+
+    /**
+     * Start scoring the legal moves of the side to move. The board is copied first and may be
+     * changed as soon as this returns. Each move is passed to the callback, on a pool thread,
+     * with its score from the mover's point of view set; cancelling the returned task stops
+     * further callbacks.
+     */
+    public ForkJoinTask<Void> evaluate(Board board, Consumer<Move> onScored) {
+        Board position = board.copy();
+        Player player = position.getCurrentPlayer();
+        List<Move> moves = position.getAllValidMoves(player);
+        HeatmapTask root = new HeatmapTask(position, player, moves, 0, moves.size(), onScored, null);
+        pool.execute(root);
+        return root;
+    }
+
+    /**
+     * Split the root moves until each task searches one of them on its own copy of the board
+     */
+    private class HeatmapTask extends RecursiveAction {
+        private final Board position;
+        private final Player player;
+        private final List<Move> moves;
+        private final int start;
+        private final int end;
+        private final Consumer<Move> onScored;
+        private final HeatmapTask root;
+
+        HeatmapTask(Board position, Player player, List<Move> moves, int start, int end,
+                    Consumer<Move> onScored, HeatmapTask root) {
+            this.position = position;
+            this.player = player;
+            this.moves = moves;
+            this.start = start;
+            this.end = end;
+            this.onScored = onScored;
+            this.root = root != null ? root : this;
+        }
+
+        @Override
+        protected void compute() {
+            if (root.isCancelled()) {
+                return;
+            }
+            if (end - start <= 1) {
+                if (end > start) {
+                    scoreMove(moves.get(start));
+                }
+                return;
+            }
+            int mid = (start + end) >>> 1;
+            invokeAll(new HeatmapTask(position, player, moves, start, mid, onScored, root),
+                    new HeatmapTask(position, player, moves, mid, end, onScored, root));
+        }
+
+        private void scoreMove(Move move) {
+            ChessAI ai = new ChessAI(player, player == Player.WHITE ? whiteTable : blackTable);
+            ai.setPersistentStore(null);
+            ai.setMoveTimeLimit(moveTimeLimitMillis);
+            int score = ai.scoreMove(position.copy(), move, depth);
+            if (!root.isCancelled()) {
+                move.setScore(score);
+                onScored.accept(move);
+            }
+        }
+    }
+}
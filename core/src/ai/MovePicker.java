@@ -0,0 +1,179 @@
+// File: core/src/ai/MovePicker.java
+package ai;
+
+import game.Board;
+import game.Move;
+import game.Player;
+import game.Zobrist;
+import pieces.Piece;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hands out the moves of one search node in stages, generating each stage only when
+ * the previous one is used up: the hash move, captures ordered by MVV-LVA, killer moves,
+ * the remaining quiet moves, then captures that lose material by static exchange.
+ * A cutoff on an early move skips the later generation.
+ */
+class MovePicker {
+    private static final int HASH_MOVE = 0;
+    private static final int GENERATE_CAPTURES = 1;
+    private static final int CAPTURES = 2;
+    private static final int KILLERS = 3;
+    private static final int GENERATE_QUIETS = 4;
+    private static final int QUIETS = 5;
+    private static final int LOSING_CAPTURES = 6;
+    private static final int DONE = 7;
+
+    private final List<Move> moves = new ArrayList<>();
+    private final List<Move> losingCaptures = new ArrayList<>();
+    private int[] orderKeys = new int[32];
+    private int index;
+    private int stage;
+
+    private Board board;
+    private Player player;
+    private Move hashMove;
+    private Move firstKiller;
+    private Move secondKiller;
+
+    /**
+     * Start picking the moves of a new node
+     *
+     * @param hashMove best move stored for this position, or null; checked for legality before use
+     */
+    void reset(Board board, Player player, Move hashMove, Move firstKiller, Move secondKiller) {
+        this.board = board;
+        this.player = player;
+        this.hashMove = hashMove;
+        this.firstKiller = firstKiller;
+        this.secondKiller = secondKiller;
+        this.stage = HASH_MOVE;
+    }
+
+    /**
+     * Get the next legal move, or null when all have been returned
+     */
+    Move next() {
+        while (true) {
+            switch (stage) {
+                case HASH_MOVE:
+                    stage = GENERATE_CAPTURES;
+                    if (hashMove != null && board.isLegal(hashMove, player)) {
+                        return hashMove;
+                    }
+                    break;
+                case GENERATE_CAPTURES:
+                    moves.clear();
+                    losingCaptures.clear();
+                    board.generateCaptures(player, moves);
+                    scoreCaptures();
+                    index = 0;
+                    stage = CAPTURES;
+                    break;
+                case CAPTURES:
+                    if (index < moves.size()) {
+                        Move move = pickBestCapture();
+                        if (move.equals(hashMove)) {
+                            break;
+                        }
+                        // Only the captures picked get their exchange resolved
+                        if (board.staticExchange(move) < 0) {
+                            losingCaptures.add(move);
+                            break;
+                        }
+                        return move;
+                    }
+                    index = 0;
+                    stage = KILLERS;
+                    break;
+                case KILLERS:
+                    Move killer = index == 0 ? firstKiller : secondKiller;
+                    if (++index == 2) {
+                        stage = GENERATE_QUIETS;
+                    }
+                    if (isUsableKiller(killer)) {
+                        return killer;
+                    }
+                    break;
+                case GENERATE_QUIETS:
+                    moves.clear();
+                    board.generateQuietMoves(player, moves);
+                    index = 0;
+                    stage = QUIETS;
+                    break;
+                case QUIETS:
+                    while (index < moves.size()) {
+                        Move move = moves.get(index++);
+                        if (!move.equals(hashMove) && !move.equals(firstKiller) && !move.equals(secondKiller)) {
+                            return move;
+                        }
+                    }
+                    index = 0;
+                    stage = LOSING_CAPTURES;
+                    break;
+                case LOSING_CAPTURES:
+                    if (index < losingCaptures.size()) {
+                        return losingCaptures.get(index++);
+                    }
+                    stage = DONE;
+                    break;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    /**
+     * Check whether the last move returned was a capture losing material by static exchange
+     */
+    boolean isLosingCapture() {
+        return stage == LOSING_CAPTURES;
+    }
+
+    /**
+     * Killers come from sibling nodes, so they are only played if they are quiet and legal here
+     */
+    private boolean isUsableKiller(Move killer) {
+        return killer != null && !killer.equals(hashMove)
+                && board.getPiece(killer.getToRow(), killer.getToCol()) == null
+                && board.isLegal(killer, player);
+    }
+
+    /**
+     * Most valuable victim first, then least valuable attacker
+     */
+    private void scoreCaptures() {
+        if (orderKeys.length < moves.size()) {
+            orderKeys = new int[moves.size() * 2];
+        }
+        for (int i = 0; i < moves.size(); i++) {
+            Move move = moves.get(i);
+            Piece attacker = board.getPiece(move.getFromRow(), move.getFromCol());
+            Piece victim = board.getPiece(move.getToRow(), move.getToCol());
+            orderKeys[i] = victim.getValue() * 8 - Zobrist.pieceIndex(attacker) % 6;
+        }
+    }
+
+    /**
+     * Swap the best remaining capture into place and return it; only the captures
+     * actually tried get sorted
+     */
+    private Move pickBestCapture() {
+        int best = index;
+        for (int i = index + 1; i < moves.size(); i++) {
+            if (orderKeys[i] > orderKeys[best]) {
+                best = i;
+            }
+        }
+        Move move = moves.get(best);
+        moves.set(best, moves.get(index));
+        moves.set(index, move);
+        int key = orderKeys[best];
+        orderKeys[best] = orderKeys[index];
+        orderKeys[index] = key;
+        index++;
+        return move;
+    }
+}
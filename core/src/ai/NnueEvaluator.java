@@ -0,0 +1,124 @@
+// File: core/src/ai/NnueEvaluator.java
+package ai;
+
+import game.Board;
+import game.MoveListener;
+import game.Player;
+import game.Zobrist;
+import pieces.Piece;
+
+import java.util.Arrays;
+
+/**
+ * Evaluates positions with an {@link NnueNetwork}, keeping both accumulators
+ * up to date incrementally as the attached board makes and unmakes moves.
+ * One accumulator frame is kept per ply, so unmake is just a pop.
+ */
+public class NnueEvaluator implements MoveListener {
+    private static final int INITIAL_PLIES = 64;
+
+    private final NnueNetwork network;
+    private final int hidden;
+    private final NnueKernel kernel;
+    // Frame f holds the white perspective at f*2H and the black perspective at f*2H + H
+    private short[] frames;
+    private int top;
+
+    public NnueEvaluator(NnueNetwork network) {
+        this.network = network;
+        this.hidden = network.hidden;
+        this.kernel = network.kernel;
+        this.frames = new short[INITIAL_PLIES * 2 * hidden];
+    }
+
+    public NnueNetwork getNetwork() {
+        return network;
+    }
+
+    /**
+     * Start tracking a board; its accumulators are rebuilt from scratch
+     */
+    public void attach(Board board) {
+        board.setMoveListener(this);
+        positionReset(board);
+    }
+
+    public void detach(Board board) {
+        board.setMoveListener(null);
+    }
+
+    @Override
+    public void positionReset(Board board) {
+        top = 0;
+        int white = 0;
+        int black = hidden;
+        System.arraycopy(network.featureBias, 0, frames, white, hidden);
+        System.arraycopy(network.featureBias, 0, frames, black, hidden);
+
+        Piece[][] squares = board.getBoardArray();
+        for (int row = 0; row < 8; row++) {
+            for (int col = 0; col < 8; col++) {
+                Piece piece = squares[row][col];
+                if (piece != null) {
+                    int kind = Zobrist.pieceIndex(piece);
+                    addFeature(white, NnueNetwork.featureIndex(kind, row, col, Player.WHITE));
+                    addFeature(black, NnueNetwork.featureIndex(kind, row, col, Player.BLACK));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void moveMade(Piece moved, int fromRow, int fromCol, Piece placed, int toRow, int toCol, Piece captured) {
+        int frameSize = 2 * hidden;
+        int previous = top * frameSize;
+        if (previous + 2 * frameSize > frames.length) {
+            frames = Arrays.copyOf(frames, frames.length * 2);
+        }
+        int current = previous + frameSize;
+        System.arraycopy(frames, previous, frames, current, frameSize);
+        top++;
+
+        int movedKind = Zobrist.pieceIndex(moved);
+        int placedKind = Zobrist.pieceIndex(placed);
+        int capturedKind = captured != null ? Zobrist.pieceIndex(captured) : -1;
+        updatePerspective(current, Player.WHITE, movedKind, fromRow, fromCol, placedKind, toRow, toCol, capturedKind);
+        updatePerspective(current + hidden, Player.BLACK, movedKind, fromRow, fromCol, placedKind, toRow, toCol, capturedKind);
+    }
+
+    @Override
+    public void moveUnmade() {
+        top--;
+    }
+
+    /**
+     * Score of the current position from the side to move's point of view
+     */
+    public int evaluate(Player sideToMove) {
+        int frame = top * 2 * hidden;
+        int us = sideToMove == Player.WHITE ? frame : frame + hidden;
+        int them = sideToMove == Player.WHITE ? frame + hidden : frame;
+        short[] output = network.outputWeights;
+        int sum = kernel.clippedDot(frames, us, output, 0, hidden, NnueNetwork.CLIP)
+                + kernel.clippedDot(frames, them, output, hidden, hidden, NnueNetwork.CLIP)
+                + network.outputBias;
+        return sum / network.scale;
+    }
+
+    private void updatePerspective(int offset, Player perspective, int movedKind, int fromRow, int fromCol,
+                                   int placedKind, int toRow, int toCol, int capturedKind) {
+        subtractFeature(offset, NnueNetwork.featureIndex(movedKind, fromRow, fromCol, perspective));
+        addFeature(offset, NnueNetwork.featureIndex(placedKind, toRow, toCol, perspective));
+        if (capturedKind >= 0) {
+            subtractFeature(offset, NnueNetwork.featureIndex(capturedKind, toRow, toCol, perspective));
+        }
+    }
+
+    private void addFeature(int offset, int feature) {
+        kernel.add(frames, offset, network.featureWeights, feature * hidden, hidden);
+    }
+
+    private void subtractFeature(int offset, int feature) {
+        kernel.subtract(frames, offset, network.featureWeights, feature * hidden, hidden);
+    }
+}
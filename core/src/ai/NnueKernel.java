@@ -0,0 +1,39 @@
+// File: core/src/ai/NnueKernel.java
+package ai;
+
+/**
+ * The int16 vector operations behind {@link NnueEvaluator}
+ */
+interface NnueKernel {
+    /**
+     * acc[accOffset + i] += weights[weightOffset + i] for i in [0, n)
+     */
+    void add(short[] acc, int accOffset, short[] weights, int weightOffset, int n);
+
+    /**
+     * acc[accOffset + i] -= weights[weightOffset + i] for i in [0, n)
+     */
+    void subtract(short[] acc, int accOffset, short[] weights, int weightOffset, int n);
+
+    /**
+     * Sum of clamp(acc[accOffset + i], 0, clip) * weights[weightOffset + i] for i in [0, n).
+     * Each product must fit in a short, which holds for clip 255 and weights within [-127, 127].
+     */
+    int clippedDot(short[] acc, int accOffset, short[] weights, int weightOffset, int n, short clip);
+
+    /**
+     * Pick the fastest kernel available: the Vector API version when the
+     * jdk.incubator.vector module is present (run with --add-modules jdk.incubator.vector),
+     * otherwise the scalar loops
+     */
+    static NnueKernel best() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (NnueKernel) Class.forName("ai.VectorNnueKernel").getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Fall back to scalar
+            }
+        }
+        return new ScalarNnueKernel();
+    }
+}
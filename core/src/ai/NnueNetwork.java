@@ -0,0 +1,142 @@
+// File: core/src/ai/NnueNetwork.java
+package ai;
+
+import game.Player;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Quantized weights of a 768 -> 2xH -> 1 NNUE network.
+ * Inputs are one feature per (piece kind, square), seen from each side's perspective;
+ * the two accumulators are clipped to [0, {@value #CLIP}] and combined by the output layer.
+ *
+ * File format (little-endian): int magic "CNNU", int version, int hidden size H, int scale,
+ * short[768 * H] feature weights (feature-major), short[H] feature bias,
+ * short[2 * H] output weights (side to move first, each in [-127, 127]), int output bias.
+ * The evaluation is (output dot products + output bias) / scale, in engine score units.
+ */
+public class NnueNetwork {
+    public static final int INPUTS = 12 * 64;
+    static final short CLIP = 255;
+    static final int MAX_OUTPUT_WEIGHT = 127;
+
+    /** System property naming the network file; NNUE evaluation is disabled when unset */
+    public static final String FILE_PROPERTY = "chess.nnue";
+
+    private static final int MAGIC = 0x554E4E43; // "CNNU"
+    private static final int VERSION = 1;
+
+    private static NnueNetwork startupNetwork;
+    private static boolean startupLoaded;
+
+    final int hidden;
+    final int scale;
+    final short[] featureWeights;
+    final short[] featureBias;
+    final short[] outputWeights;
+    final int outputBias;
+    final NnueKernel kernel;
+    private final long fingerprint;
+
+    NnueNetwork(int hidden, int scale, short[] featureWeights, short[] featureBias,
+                short[] outputWeights, int outputBias) {
+        if (hidden <= 0 || scale <= 0) {
+            throw new IllegalArgumentException("Invalid network shape: hidden " + hidden + ", scale " + scale);
+        }
+        for (short weight : outputWeights) {
+            if (Math.abs(weight) > MAX_OUTPUT_WEIGHT) {
+                throw new IllegalArgumentException("Output weight out of range: " + weight);
+            }
+        }
+        this.hidden = hidden;
+        this.scale = scale;
+        this.featureWeights = featureWeights;
+        this.featureBias = featureBias;
+        this.outputWeights = outputWeights;
+        this.outputBias = outputBias;
+        this.kernel = NnueKernel.best();
+
+        long hash = hidden * 31L + scale;
+        hash = hash * 31 + Arrays.hashCode(featureWeights);
+        hash = hash * 31 + Arrays.hashCode(featureBias);
+        hash = hash * 31 + Arrays.hashCode(outputWeights);
+        this.fingerprint = hash * 31 + outputBias;
+    }
+
+    /**
+     * Get the network loaded at startup from {@value #FILE_PROPERTY}, or null if none is configured
+     */
+    public static synchronized NnueNetwork startup() {
+        if (!startupLoaded) {
+            startupLoaded = true;
+            String file = System.getProperty(FILE_PROPERTY);
+            if (file != null) {
+                try {
+                    startupNetwork = load(Paths.get(file));
+                } catch (IOException e) {
+                    System.err.println("NNUE evaluation disabled: " + e.getMessage());
+                }
+            }
+        }
+        return startupNetwork;
+    }
+
+    public static NnueNetwork load(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Not a network file: " + file);
+            }
+            int hidden = buffer.getInt();
+            int scale = buffer.getInt();
+            long expected = 16L + 2L * ((long) INPUTS * hidden + 3L * hidden) + 4;
+            if (hidden <= 0 || buffer.capacity() != expected) {
+                throw new IOException("Network file has the wrong size: " + file);
+            }
+            short[] featureWeights = new short[INPUTS * hidden];
+            short[] featureBias = new short[hidden];
+            short[] outputWeights = new short[2 * hidden];
+            buffer.asShortBuffer().get(featureWeights).get(featureBias).get(outputWeights);
+            buffer.position(buffer.capacity() - 4);
+            return new NnueNetwork(hidden, scale, featureWeights, featureBias, outputWeights, buffer.getInt());
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid network file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Hash of the network's shape and parameters, identifying it in stored search results
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    public int getHiddenSize() {
+        return hidden;
+    }
+
+    /**
+     * Whether evaluation uses the Vector API kernel
+     */
+    public boolean isVectorized() {
+        return !(kernel instanceof ScalarNnueKernel);
+    }
+
+    /**
+     * Input feature of a piece kind ({@link game.Zobrist#pieceIndex} numbering) on a square,
+     * seen from one side: black sees the board mirrored vertically with colors swapped
+     */
+    static int featureIndex(int kind, int row, int col, Player perspective) {
+        if (perspective == Player.WHITE) {
+            return kind * 64 + row * 8 + col;
+        }
+        int flippedKind = kind < 6 ? kind + 6 : kind - 6;
+        return flippedKind * 64 + (7 - row) * 8 + col;
+    }
+}
@@ -0,0 +1,196 @@
+// File: core/src/ai/PersistentTranspositionStore.java
+package ai;
+
+import game.Move;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * On-disk cache of root search results kept in a memory-mapped file so analysis survives restarts.
+ *
+ * The file is a fixed-size table of slots indexed by position hash. Writers take an exclusive
+ * file lock on the slot, so several processes can share one file; readers do not lock and
+ * instead verify a checksum, which rejects slots caught half-written.
+ *
+ * Scores only hold for the evaluation that produced them, so the header records a fingerprint
+ * of the evaluation weights and network; a file written with another evaluation is refused.
+ */
+public class PersistentTranspositionStore implements AutoCloseable {
+    public static final byte BOUND_EXACT = 0;
+    public static final byte BOUND_LOWER = 1;
+    public static final byte BOUND_UPPER = 2;
+
+    /** System property naming the cache file; the shared store is disabled when unset */
+    public static final String FILE_PROPERTY = "chess.analysisCache";
+    private static final int DEFAULT_ENTRIES = 1 << 20;
+
+    private static final int MAGIC = 0x43485454; // "CHTT"
+    private static final int HEADER_SIZE = 16;
+    private static final int ENTRY_SIZE = 32;
+
+    private static PersistentTranspositionStore shared;
+    private static boolean sharedOpened;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int mask;
+    private final long fingerprint;
+
+    private PersistentTranspositionStore(FileChannel channel, MappedByteBuffer buffer, int entries, long fingerprint) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.mask = entries - 1;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Identify an evaluation: the weights, and the network if one replaces them
+     */
+    public static long fingerprint(EvalWeights weights, NnueNetwork network) {
+        return weights.fingerprint() * 31 + (network != null ? network.fingerprint() : 0);
+    }
+
+    /**
+     * Open or create a store with the given number of slots (rounded up to a power of two)
+     *
+     * @param fingerprint {@link #fingerprint} of the evaluation whose results are stored
+     * @throws IOException if the file exists but was written with a different evaluation
+     */
+    public static PersistentTranspositionStore open(Path file, int entries, long fingerprint) throws IOException {
+        int slots = Integer.highestOneBit(Math.max(entries - 1, 1)) << 1;
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            FileLock lock = channel.lock(0, HEADER_SIZE, false);
+            try {
+                if (channel.size() >= HEADER_SIZE) {
+                    MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+                    if (header.getInt(0) != MAGIC) {
+                        throw new IOException("Not an analysis cache file: " + file);
+                    }
+                    if (header.getLong(8) != fingerprint) {
+                        throw new IOException("Analysis cache was written with a different evaluation: " + file);
+                    }
+                    slots = header.getInt(4);
+                }
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                        HEADER_SIZE + (long) slots * ENTRY_SIZE);
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, slots);
+                buffer.putLong(8, fingerprint);
+                return new PersistentTranspositionStore(channel, buffer, slots, fingerprint);
+            } finally {
+                lock.release();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Get the store shared by all AIs in this JVM, or null if {@value #FILE_PROPERTY} is not set
+     */
+    public static synchronized PersistentTranspositionStore shared() {
+        if (!sharedOpened) {
+            sharedOpened = true;
+            String file = System.getProperty(FILE_PROPERTY);
+            if (file != null) {
+                try {
+                    shared = open(Paths.get(file), DEFAULT_ENTRIES,
+                            fingerprint(EvalWeights.startup(), NnueNetwork.startup()));
+                } catch (IOException e) {
+                    System.err.println("Analysis cache disabled: " + e.getMessage());
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Look up a position
+     *
+     * @return the stored entry, or null if the position is not in the store
+     */
+    public synchronized Entry probe(long key) {
+        int offset = slotOffset(key);
+        long storedKey = buffer.getLong(offset);
+        long data = buffer.getLong(offset + 8);
+        long check = buffer.getLong(offset + 16);
+        if (storedKey != key || check != (key ^ data) || data == 0) {
+            return null;
+        }
+        return new Entry(data);
+    }
+
+    /**
+     * Write a search result; a slot holding a different position or a shallower search is replaced
+     */
+    public synchronized void store(long key, int depth, byte bound, int score, Move bestMove) {
+        int offset = slotOffset(key);
+        long data = Entry.pack(depth, bound, score, bestMove);
+        try {
+            FileLock lock = channel.lock(offset, ENTRY_SIZE, false);
+            try {
+                if (buffer.getLong(offset) == key && new Entry(buffer.getLong(offset + 8)).getDepth() > depth) {
+                    return;
+                }
+                buffer.putLong(offset, key);
+                buffer.putLong(offset + 8, data);
+                buffer.putLong(offset + 16, key ^ data);
+            } finally {
+                lock.release();
+            }
+        } catch (IOException e) {
+            // The cache is best effort; skip this write
+        }
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private int slotOffset(long key) {
+        return HEADER_SIZE + (int) (key & mask) * ENTRY_SIZE;
+    }
+
+    /**
+     * A stored search result: depth, bound type, score and best move packed in one long
+     */
+    public static class Entry {
+        private final long data;
+
+        Entry(long data) {
+            this.data = data;
+        }
+
+        static long pack(int depth, byte bound, int score, Move move) {
+            long packedMove = ((long) move.getFromRow() << 9) | ((long) move.getFromCol() << 6)
+                    | ((long) move.getToRow() << 3) | move.getToCol();
+            // The high bit marks the slot as used so an all-zero slot never matches
+            return (1L << 63) | ((long) (depth & 0xFF) << 48) | ((long) (bound & 0x3) << 44)
+                    | (packedMove << 32) | (score & 0xFFFFFFFFL);
+        }
+
+        public int getDepth() { return (int) (data >>> 48) & 0xFF; }
+        public byte getBound() { return (byte) ((data >>> 44) & 0x3); }
+        public int getScore() { return (int) data; }
+
+        public Move getBestMove() {
+            int packedMove = (int) (data >>> 32) & 0xFFF;
+            return new Move(packedMove >>> 9, (packedMove >>> 6) & 7, (packedMove >>> 3) & 7, packedMove & 7);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+// File: core/src/ai/ScalarNnueKernel.java
+package ai;
+
+/**
+ * Plain loop implementation of {@link NnueKernel}, used when the Vector API is unavailable
+ */
+class ScalarNnueKernel implements NnueKernel {
+    @Override
+    public void add(short[] acc, int accOffset, short[] weights, int weightOffset, int n) {
+        for (int i = 0; i < n; i++) {
+            acc[accOffset + i] += weights[weightOffset + i];
+        }
+    }
+
+    @Override
+    public void subtract(short[] acc, int accOffset, short[] weights, int weightOffset, int n) {
+        for (int i = 0; i < n; i++) {
+            acc[accOffset + i] -= weights[weightOffset + i];
+        }
+    }
+
+    @Override
+    public int clippedDot(short[] acc, int accOffset, short[] weights, int weightOffset, int n, short clip) {
+        int sum = 0;
+        for (int i = 0; i < n; i++) {
+            int value = Math.min(Math.max(acc[accOffset + i], 0), clip);
+            sum += value * weights[weightOffset + i];
+        }
+        return sum;
+    }
+}
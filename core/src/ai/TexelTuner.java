@@ -0,0 +1,267 @@
+// File: core/src/ai/TexelTuner.java
+package ai;
+
+import exceptions.GameException;
+import game.Board;
+import game.Player;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Offline Texel-style tuner for {@link EvalWeights}.
+ *
+ * Reads a dataset of "FEN result" lines, where result is 1-0, 0-1 or 1/2-1/2 (or 1, 0, 0.5),
+ * and finds the weights minimizing the squared error between each game result and
+ * sigmoid(K * eval). The evaluation is linear in the weights, so the features of every
+ * position are extracted once into a flat array; each tuning iteration is then an
+ * allocation-free pass over that array split across cores with fork-join.
+ */
+public class TexelTuner {
+    private static final int BATCH_SIZE = 4096;
+    private static final int SPLIT_THRESHOLD = 16384;
+
+    private final ForkJoinPool pool;
+    private int[] features;   // COUNT features per position, white's point of view
+    private byte[] results;   // 0 = black won, 1 = draw, 2 = white won
+    private int positions;
+
+    public TexelTuner(ForkJoinPool pool) {
+        this.pool = pool;
+        this.features = new int[BATCH_SIZE * EvalWeights.COUNT];
+        this.results = new byte[BATCH_SIZE];
+    }
+
+    /**
+     * Stream the dataset and extract the features of every position, a batch at a time in parallel
+     */
+    public void load(Path dataset) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(dataset, StandardCharsets.UTF_8)) {
+            List<String> batch = new ArrayList<>(BATCH_SIZE);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    batch.add(line);
+                }
+                if (batch.size() == BATCH_SIZE) {
+                    addBatch(batch);
+                    batch.clear();
+                }
+            }
+            addBatch(batch);
+        }
+    }
+
+    private void addBatch(List<String> batch) {
+        if (batch.isEmpty()) return;
+        ensureCapacity(positions + batch.size());
+
+        byte[] batchResults = new byte[batch.size()];
+        int[] batchFeatures = new int[batch.size() * EvalWeights.COUNT];
+        pool.invoke(new ExtractTask(batch, batchFeatures, batchResults, 0, batch.size()));
+
+        // Keep only the lines that parsed
+        for (int i = 0; i < batch.size(); i++) {
+            if (batchResults[i] < 0) continue;
+            System.arraycopy(batchFeatures, i * EvalWeights.COUNT,
+                    features, positions * EvalWeights.COUNT, EvalWeights.COUNT);
+            results[positions++] = batchResults[i];
+        }
+    }
+
+    private void ensureCapacity(int count) {
+        if (count > results.length) {
+            int capacity = Math.max(count, results.length * 2);
+            results = Arrays.copyOf(results, capacity);
+            features = Arrays.copyOf(features, capacity * EvalWeights.COUNT);
+        }
+    }
+
+    /**
+     * Parse one dataset line into features and a result code, or return -1 if it is malformed
+     */
+    private static byte parseLine(String line, int[] features, int offset) {
+        int split = line.lastIndexOf(' ');
+        if (split < 0) return -1;
+
+        byte result;
+        switch (line.substring(split + 1).replace("\"", "").replace(";", "")) {
+            case "1-0": case "1": case "1.0": result = 2; break;
+            case "0-1": case "0": case "0.0": result = 0; break;
+            case "1/2-1/2": case "0.5": result = 1; break;
+            default: return -1;
+        }
+
+        try {
+            Board board = Board.fromFen(line.substring(0, split));
+            int[] positionFeatures = new int[EvalWeights.COUNT];
+            ChessAI.collectFeatures(board, Player.WHITE, positionFeatures);
+            System.arraycopy(positionFeatures, 0, features, offset, EvalWeights.COUNT);
+            return result;
+        } catch (GameException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Mean squared error of the predicted results for the given weights and scaling constant
+     */
+    public double error(int[] weights, double k) {
+        return pool.invoke(new ErrorTask(weights, k, 0, positions)) / positions;
+    }
+
+    /**
+     * Find the scaling constant K that best fits the current weights, by golden-section search on log10(K)
+     */
+    public double fitScale(int[] weights) {
+        double low = -4, high = 3;
+        double ratio = (Math.sqrt(5) - 1) / 2;
+        for (int i = 0; i < 40; i++) {
+            double a = high - ratio * (high - low);
+            double b = low + ratio * (high - low);
+            if (error(weights, Math.pow(10, a)) < error(weights, Math.pow(10, b))) {
+                high = b;
+            } else {
+                low = a;
+            }
+        }
+        return Math.pow(10, (low + high) / 2);
+    }
+
+    /**
+     * Local search: move each weight up or down by one while that lowers the error
+     */
+    public int[] tune(int[] initial, double k, int maxIterations) {
+        int[] weights = initial.clone();
+        double bestError = error(weights, k);
+        System.out.printf("positions=%d K=%.5f initial error=%.6f%n", positions, k, bestError);
+
+        for (int iteration = 1; iteration <= maxIterations; iteration++) {
+            long start = System.nanoTime();
+            boolean improved = false;
+            for (int i = 0; i < EvalWeights.COUNT; i++) {
+                for (int step : new int[]{1, -1}) {
+                    weights[i] += step;
+                    double e = error(weights, k);
+                    if (e < bestError) {
+                        bestError = e;
+                        improved = true;
+                        break;
+                    }
+                    weights[i] -= step;
+                }
+            }
+            System.out.printf("iteration %d error=%.6f (%.0f ms) %s%n", iteration, bestError,
+                    (System.nanoTime() - start) / 1e6, new EvalWeights(weights));
+            if (!improved) break;
+        }
+        return weights;
+    }
+
+    public int getPositionCount() {
+        return positions;
+    }
+
+    private static class ExtractTask extends RecursiveAction {
+        private final List<String> lines;
+        private final int[] features;
+        private final byte[] results;
+        private final int start, end;
+
+        ExtractTask(List<String> lines, int[] features, byte[] results, int start, int end) {
+            this.lines = lines;
+            this.features = features;
+            this.results = results;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= 64) {
+                for (int i = start; i < end; i++) {
+                    results[i] = parseLine(lines.get(i), features, i * EvalWeights.COUNT);
+                }
+                return;
+            }
+            int mid = (start + end) >>> 1;
+            invokeAll(new ExtractTask(lines, features, results, start, mid),
+                    new ExtractTask(lines, features, results, mid, end));
+        }
+    }
+
+    private class ErrorTask extends RecursiveTask<Double> {
+        private final int[] weights;
+        private final double k;
+        private final int start, end;
+
+        ErrorTask(int[] weights, double k, int start, int end) {
+            this.weights = weights;
+            this.k = k;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Double compute() {
+            if (end - start > SPLIT_THRESHOLD) {
+                int mid = (start + end) >>> 1;
+                ErrorTask left = new ErrorTask(weights, k, start, mid);
+                left.fork();
+                double right = new ErrorTask(weights, k, mid, end).compute();
+                return right + left.join();
+            }
+
+            double sum = 0;
+            int offset = start * EvalWeights.COUNT;
+            for (int i = start; i < end; i++) {
+                int score = 0;
+                for (int f = 0; f < EvalWeights.COUNT; f++) {
+                    score += weights[f] * features[offset++];
+                }
+                double predicted = 1.0 / (1.0 + Math.pow(10, -k * score / 400.0));
+                double diff = results[i] * 0.5 - predicted;
+                sum += diff * diff;
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * Tune the weights: &lt;dataset&gt; [output file] [max iterations]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: TexelTuner <dataset> [output] [maxIterations]");
+            System.exit(1);
+        }
+        Path output = Paths.get(args.length > 1 ? args[1] : "eval-weights.txt");
+        int maxIterations = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+
+        TexelTuner tuner = new TexelTuner(ForkJoinPool.commonPool());
+        long start = System.nanoTime();
+        tuner.load(Paths.get(args[0]));
+        System.out.printf("Loaded %d positions in %.1f s%n", tuner.getPositionCount(),
+                (System.nanoTime() - start) / 1e9);
+        if (tuner.getPositionCount() == 0) {
+            System.err.println("No usable positions in " + args[0]);
+            System.exit(1);
+        }
+
+        int[] initial = EvalWeights.startup().toArray();
+        double k = tuner.fitScale(initial);
+        EvalWeights tuned = new EvalWeights(tuner.tune(initial, k, maxIterations));
+        tuned.save(output);
+        System.out.println("Wrote " + output + ": " + tuned);
+    }
+}
@@ -0,0 +1,110 @@
+// File: core/src/ai/TranspositionTable.java
+package ai;
+
+import game.Move;
+import profiling.EngineCounters;
+import profiling.TranspositionResizeEvent;
+
+import java.util.Arrays;
+
+/**
+ * In-memory hash table of search results indexed by position hash.
+ *
+ * Each slot holds the key XORed with the packed data, so a slot written by two threads
+ * at once simply fails to match instead of returning a mixed-up entry.
+ */
+public class TranspositionTable {
+    public static final int EXACT = 0;
+    public static final int LOWER = 1;
+    public static final int UPPER = 2;
+
+    private long[] keys;
+    private long[] data;
+    private int mask;
+
+    public TranspositionTable(int entries) {
+        resize(entries);
+    }
+
+    /**
+     * Reallocate the table with the given number of entries (rounded up to a power of two), clearing it
+     */
+    public void resize(int entries) {
+        int size = Integer.highestOneBit(Math.max(entries - 1, 1)) << 1;
+        TranspositionResizeEvent event = EngineCounters.recording() ? new TranspositionResizeEvent() : null;
+        if (event != null) {
+            event.begin();
+            event.previousEntries = keys != null ? keys.length : 0;
+            event.entries = size;
+        }
+
+        keys = new long[size];
+        data = new long[size];
+        mask = size - 1;
+        if (event != null) {
+            event.commit();
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(data, 0);
+    }
+
+    /**
+     * Look up a position
+     *
+     * @return the packed entry, or 0 if the position is not stored
+     */
+    public long probe(long key) {
+        int index = (int) key & mask;
+        long entry = data[index];
+        if (entry == 0 || (keys[index] ^ entry) != key) {
+            return 0;
+        }
+        return entry;
+    }
+
+    /**
+     * Store a result; an entry for the same position from a deeper search is kept
+     */
+    public void store(long key, int depth, int bound, int score, Move bestMove) {
+        int index = (int) key & mask;
+        long existing = data[index];
+        if (existing != 0 && (keys[index] ^ existing) == key && depth(existing) > depth) {
+            return;
+        }
+        long entry = pack(depth, bound, score, bestMove);
+        data[index] = entry;
+        keys[index] = key ^ entry;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    private static long pack(int depth, int bound, int score, Move move) {
+        long packedMove = 0;
+        if (move != null) {
+            // Bit 12 marks that a move is present
+            packedMove = (1 << 12) | (move.getFromRow() << 9) | (move.getFromCol() << 6)
+                    | (move.getToRow() << 3) | move.getToCol();
+        }
+        // The high bit marks the slot as used so an all-zero slot never matches
+        return (1L << 63) | ((long) (depth & 0xFF) << 48) | ((long) (bound & 0x3) << 45)
+                | (packedMove << 32) | (score & 0xFFFFFFFFL);
+    }
+
+    // Accessors for packed entries
+    public static int depth(long entry) { return (int) (entry >>> 48) & 0xFF; }
+    public static int bound(long entry) { return (int) (entry >>> 45) & 0x3; }
+    public static int score(long entry) { return (int) entry; }
+
+    public static Move move(long entry) {
+        int packedMove = (int) (entry >>> 32) & 0x1FFF;
+        if ((packedMove & (1 << 12)) == 0) {
+            return null;
+        }
+        return new Move((packedMove >>> 9) & 7, (packedMove >>> 6) & 7, (packedMove >>> 3) & 7, packedMove & 7);
+    }
+}
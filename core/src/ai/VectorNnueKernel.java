@@ -0,0 +1,63 @@
+// File: core/src/ai/VectorNnueKernel.java
+package ai;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementation of {@link NnueKernel} using the incubating Vector API.
+ * Only loaded through {@link NnueKernel#best()} when the module is present.
+ */
+class VectorNnueKernel implements NnueKernel {
+    private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public void add(short[] acc, int accOffset, short[] weights, int weightOffset, int n) {
+        int i = 0;
+        for (int bound = SHORTS.loopBound(n); i < bound; i += SHORTS.length()) {
+            ShortVector.fromArray(SHORTS, acc, accOffset + i)
+                    .add(ShortVector.fromArray(SHORTS, weights, weightOffset + i))
+                    .intoArray(acc, accOffset + i);
+        }
+        for (; i < n; i++) {
+            acc[accOffset + i] += weights[weightOffset + i];
+        }
+    }
+
+    @Override
+    public void subtract(short[] acc, int accOffset, short[] weights, int weightOffset, int n) {
+        int i = 0;
+        for (int bound = SHORTS.loopBound(n); i < bound; i += SHORTS.length()) {
+            ShortVector.fromArray(SHORTS, acc, accOffset + i)
+                    .sub(ShortVector.fromArray(SHORTS, weights, weightOffset + i))
+                    .intoArray(acc, accOffset + i);
+        }
+        for (; i < n; i++) {
+            acc[accOffset + i] -= weights[weightOffset + i];
+        }
+    }
+
+    @Override
+    public int clippedDot(short[] acc, int accOffset, short[] weights, int weightOffset, int n, short clip) {
+        IntVector sum = IntVector.zero(INTS);
+        int i = 0;
+        for (int bound = SHORTS.loopBound(n); i < bound; i += SHORTS.length()) {
+            ShortVector products = ShortVector.fromArray(SHORTS, acc, accOffset + i)
+                    .max((short) 0)
+                    .min(clip)
+                    .mul(ShortVector.fromArray(SHORTS, weights, weightOffset + i));
+            // Widen both halves to int lanes before accumulating
+            sum = sum.add((IntVector) products.convertShape(VectorOperators.S2I, INTS, 0))
+                    .add((IntVector) products.convertShape(VectorOperators.S2I, INTS, 1));
+        }
+        int total = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < n; i++) {
+            int value = Math.min(Math.max(acc[accOffset + i], 0), clip);
+            total += value * weights[weightOffset + i];
+        }
+        return total;
+    }
+}
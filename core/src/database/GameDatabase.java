@@ -0,0 +1,138 @@
+// File: core/src/database/GameDatabase.java
+package database;
+
+import exceptions.GameException;
+import game.Board;
+import game.Move;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Read-only access to a game database written by {@link GameDatabaseWriter}.
+ * The position index is memory-mapped and searched by binary search on the position hash.
+ */
+public class GameDatabase implements AutoCloseable {
+    private final FileChannel games;
+    private final FileChannel indexChannel;
+    private final MappedByteBuffer index;
+    private final long entryCount;
+
+    public GameDatabase(Path gamesFile, Path indexFile) throws IOException, GameException {
+        this.games = FileChannel.open(gamesFile, StandardOpenOption.READ);
+        this.indexChannel = FileChannel.open(indexFile, StandardOpenOption.READ);
+        try {
+            if (indexChannel.size() > Integer.MAX_VALUE) {
+                throw new GameException("Index too large to map: " + indexFile);
+            }
+            this.index = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, indexChannel.size());
+            if (index.getInt(0) != GameDatabaseWriter.INDEX_MAGIC) {
+                throw new GameException("Not a game index: " + indexFile);
+            }
+            this.entryCount = index.getLong(8);
+
+            ByteBuffer header = ByteBuffer.allocate(GameDatabaseWriter.GAMES_HEADER_SIZE);
+            games.read(header, 0);
+            if (header.getInt(0) != GameDatabaseWriter.GAMES_MAGIC) {
+                throw new GameException("Not a game database: " + gamesFile);
+            }
+        } catch (IOException | GameException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Find the offsets of all games that reach the given position
+     */
+    public long[] findGames(Board position) {
+        return findGames(position.getHash());
+    }
+
+    /**
+     * Find the offsets of all games that reach the position with the given hash
+     */
+    public long[] findGames(long hash) {
+        // Lower bound of the hash in the sorted index
+        long low = 0, high = entryCount;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (hashAt(mid) < hash) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        long[] offsets = new long[8];
+        int count = 0;
+        for (long i = low; i < entryCount && hashAt(i) == hash; i++) {
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            offsets[count++] = index.getLong(entryPosition(i) + 8);
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
+    /**
+     * Read and decode the game at the given offset
+     */
+    public GameRecord readGame(long offset) throws IOException, GameException {
+        ByteBuffer header = ByteBuffer.allocate(3);
+        readFully(header, offset);
+        int plies = header.getShort(0) & 0xFFFF;
+        byte result = header.get(2);
+
+        ByteBuffer encoded = ByteBuffer.allocate(plies);
+        readFully(encoded, offset + 3);
+
+        // Replay the game, turning each move index back into a move
+        Board board = new Board();
+        List<Move> moves = new ArrayList<>(plies);
+        for (int ply = 0; ply < plies; ply++) {
+            List<Move> legalMoves = board.getAllValidMoves(board.getCurrentPlayer());
+            int moveIndex = encoded.get(ply) & 0xFF;
+            if (moveIndex >= legalMoves.size()) {
+                throw new GameException("Corrupt game at offset " + offset + ", ply " + (ply + 1));
+            }
+            Move move = legalMoves.get(moveIndex);
+            moves.add(move);
+            board.make(move);
+        }
+        return new GameRecord(moves, result);
+    }
+
+    public long getIndexEntryCount() {
+        return entryCount;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (games.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of games file at " + position);
+            }
+        }
+    }
+
+    private long hashAt(long entry) {
+        return index.getLong(entryPosition(entry));
+    }
+
+    private static int entryPosition(long entry) {
+        return (int) (GameDatabaseWriter.INDEX_HEADER_SIZE + entry * GameDatabaseWriter.INDEX_ENTRY_SIZE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        games.close();
+        indexChannel.close();
+    }
+}
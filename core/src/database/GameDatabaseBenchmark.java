@@ -0,0 +1,99 @@
+// File: core/src/database/GameDatabaseBenchmark.java
+package database;
+
+import exceptions.GameException;
+import game.Board;
+import game.Move;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures import throughput and position query latency on randomly generated games
+ */
+public class GameDatabaseBenchmark {
+    private static final long SEED = 42;
+    private static final int MAX_PLIES = 120;
+    private static final int QUERIES = 10_000;
+
+    /**
+     * Run the benchmark: [games]
+     */
+    public static void main(String[] args) throws IOException, GameException {
+        int gameCount = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        Random random = new Random(SEED);
+
+        List<List<Move>> games = new ArrayList<>(gameCount);
+        for (int i = 0; i < gameCount; i++) {
+            games.add(randomGame(random));
+        }
+
+        Path dir = Files.createTempDirectory("chess-db");
+        Path gamesFile = dir.resolve("games.bin");
+        Path indexFile = dir.resolve("games.idx");
+        try {
+            // Import
+            long plies = 0;
+            long start = System.nanoTime();
+            try (GameDatabaseWriter writer = new GameDatabaseWriter(gamesFile, indexFile)) {
+                for (List<Move> game : games) {
+                    writer.addGame(game, GameRecord.RESULT_UNKNOWN);
+                    plies += game.size();
+                }
+            }
+            double importSeconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("Import: %d games, %d plies in %.2f s (%.0f games/s, %.0f plies/s)%n",
+                    gameCount, plies, importSeconds, gameCount / importSeconds, plies / importSeconds);
+            System.out.printf("Size: games %d bytes (%.2f bytes/ply), index %d bytes%n",
+                    Files.size(gamesFile), (double) Files.size(gamesFile) / plies, Files.size(indexFile));
+
+            // Queries for positions taken from the games
+            long[] queryHashes = new long[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                List<Move> game = games.get(random.nextInt(gameCount));
+                Board board = new Board();
+                int ply = random.nextInt(game.size() + 1);
+                for (int p = 0; p < ply; p++) {
+                    board.make(game.get(p));
+                }
+                queryHashes[i] = board.getHash();
+            }
+
+            try (GameDatabase database = new GameDatabase(gamesFile, indexFile)) {
+                long[] latencies = new long[QUERIES];
+                long matches = 0;
+                for (int i = 0; i < QUERIES; i++) {
+                    long begin = System.nanoTime();
+                    matches += database.findGames(queryHashes[i]).length;
+                    latencies[i] = System.nanoTime() - begin;
+                }
+                Arrays.sort(latencies);
+                System.out.printf("Query: %d lookups, %d matches, p50=%.1f us p99=%.1f us max=%.1f us%n",
+                        QUERIES, matches, latencies[QUERIES / 2] / 1e3,
+                        latencies[QUERIES * 99 / 100] / 1e3, latencies[QUERIES - 1] / 1e3);
+            }
+        } finally {
+            Files.deleteIfExists(gamesFile);
+            Files.deleteIfExists(indexFile);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    private static List<Move> randomGame(Random random) {
+        Board board = new Board();
+        List<Move> moves = new ArrayList<>();
+        while (moves.size() < MAX_PLIES) {
+            List<Move> legalMoves = board.getAllValidMoves(board.getCurrentPlayer());
+            if (legalMoves.isEmpty()) break;
+            Move move = legalMoves.get(random.nextInt(legalMoves.size()));
+            board.make(move);
+            moves.add(move);
+        }
+        return moves;
+    }
+}
@@ -0,0 +1,66 @@
+// File: core/src/database/GameDatabaseCheck.java
+package database;
+
+import exceptions.GameException;
+import game.Board;
+import game.Move;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Consistency checks for {@link GameDatabaseWriter} and {@link GameDatabase}; exits non-zero on failure
+ */
+public class GameDatabaseCheck {
+    public static void main(String[] args) throws IOException, GameException {
+        Path dir = Files.createTempDirectory("chess-db-check");
+        Path gamesFile = dir.resolve("games.bin");
+        Path indexFile = dir.resolve("games.idx");
+        try {
+            checkRejectedGame(gamesFile, indexFile);
+            System.out.println("Rejected game check passed");
+        } catch (IllegalStateException e) {
+            System.err.println("FAILED: " + e.getMessage());
+            System.exit(1);
+        } finally {
+            Files.deleteIfExists(gamesFile);
+            Files.deleteIfExists(indexFile);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    /**
+     * A game rejected part way through must leave nothing in the index: 1.d4 d5 followed by an
+     * illegal move, then 1.e4 e5 written at the same offset, must only be found as 1.e4 e5
+     */
+    private static void checkRejectedGame(Path gamesFile, Path indexFile) throws IOException, GameException {
+        List<Move> rejected = List.of(new Move(6, 3, 4, 3), new Move(1, 3, 3, 3), new Move(7, 4, 3, 4));
+        List<Move> accepted = List.of(new Move(6, 4, 4, 4), new Move(1, 4, 3, 4));
+        try (GameDatabaseWriter writer = new GameDatabaseWriter(gamesFile, indexFile)) {
+            try {
+                writer.addGame(rejected, GameRecord.RESULT_UNKNOWN);
+                throw new IllegalStateException("Illegal game was accepted");
+            } catch (GameException expected) {
+                // Rejected as it should be
+            }
+            writer.addGame(accepted, GameRecord.RESULT_UNKNOWN);
+        }
+
+        try (GameDatabase database = new GameDatabase(gamesFile, indexFile)) {
+            if (database.findGames(positionAfter(rejected.subList(0, 2))).length != 0
+                    || database.findGames(positionAfter(accepted)).length != 1) {
+                throw new IllegalStateException("Rejected game left entries in the index");
+            }
+        }
+    }
+
+    private static Board positionAfter(List<Move> moves) {
+        Board board = new Board();
+        for (Move move : moves) {
+            board.make(move);
+        }
+        return board;
+    }
+}
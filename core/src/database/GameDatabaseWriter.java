@@ -0,0 +1,261 @@
+// File: core/src/database/GameDatabaseWriter.java
+package database;
+
+import exceptions.GameException;
+import game.Board;
+import game.Move;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Writes games in the compact binary format read by {@link GameDatabase}, plus the position index.
+ *
+ * Games file: a header, then per game an unsigned short ply count, a result byte and one byte
+ * per move giving the move's index in {@link Board#getAllValidMoves} for the position.
+ * Index file: a header and entry count, then (position hash, game offset) pairs sorted by hash.
+ *
+ * Index entries are collected in memory up to {@value #RUN_ENTRIES} at a time; each full buffer
+ * is sorted and spilled to a run file next to the index, and the runs are merged on close.
+ */
+public class GameDatabaseWriter implements AutoCloseable {
+    static final int GAMES_MAGIC = 0x43484442; // "CHDB"
+    static final int INDEX_MAGIC = 0x43484458; // "CHDX"
+    static final int GAMES_HEADER_SIZE = 8;
+    static final int INDEX_HEADER_SIZE = 16;
+    static final int INDEX_ENTRY_SIZE = 16;
+    private static final int VERSION = 1;
+    private static final int MAX_PLIES = 0xFFFF;
+    // At most 16 MB of index entries in memory; a whole game always fits
+    private static final int RUN_ENTRIES = 1 << 20;
+
+    private final DataOutputStream games;
+    private final Path indexFile;
+    private long offset;
+    private long[] indexHashes;
+    private long[] indexOffsets;
+    private int indexSize;
+    private final List<Path> runs = new ArrayList<>();
+    private final byte[] encoded = new byte[MAX_PLIES];
+
+    public GameDatabaseWriter(Path gamesFile, Path indexFile) throws IOException {
+        this.games = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(gamesFile), 1 << 16));
+        this.indexFile = indexFile;
+        this.indexHashes = new long[1 << 16];
+        this.indexOffsets = new long[1 << 16];
+
+        games.writeInt(GAMES_MAGIC);
+        games.writeInt(VERSION);
+        offset = GAMES_HEADER_SIZE;
+    }
+
+    /**
+     * Append a game, indexing every position it reaches
+     *
+     * @return the offset of the game in the games file
+     */
+    public long addGame(List<Move> moves, byte result) throws GameException, IOException {
+        if (moves.size() > MAX_PLIES) {
+            throw new GameException("Game too long: " + moves.size() + " plies");
+        }
+
+        // Spill before the game rather than during it, so a rejected game can still be rolled back
+        if (indexSize + moves.size() + 1 > RUN_ENTRIES) {
+            spillRun();
+        }
+
+        long gameOffset = offset;
+        int indexStart = indexSize;
+        Board board = new Board();
+        addIndexEntry(board.getHash(), gameOffset);
+        for (int ply = 0; ply < moves.size(); ply++) {
+            Move move = moves.get(ply);
+            int index = board.getAllValidMoves(board.getCurrentPlayer()).indexOf(move);
+            if (index < 0) {
+                // Nothing of a rejected game is kept; the next game reuses its offset
+                indexSize = indexStart;
+                throw new GameException("Illegal move " + move + " at ply " + (ply + 1));
+            }
+            encoded[ply] = (byte) index;
+            board.make(move);
+            addIndexEntry(board.getHash(), gameOffset);
+        }
+
+        games.writeShort(moves.size());
+        games.writeByte(result);
+        games.write(encoded, 0, moves.size());
+        offset += 3 + moves.size();
+        return gameOffset;
+    }
+
+    private void addIndexEntry(long hash, long gameOffset) {
+        if (indexSize == indexHashes.length) {
+            int capacity = Math.min(indexSize * 2, RUN_ENTRIES);
+            indexHashes = Arrays.copyOf(indexHashes, capacity);
+            indexOffsets = Arrays.copyOf(indexOffsets, capacity);
+        }
+        indexHashes[indexSize] = hash;
+        indexOffsets[indexSize] = gameOffset;
+        indexSize++;
+    }
+
+    /**
+     * Sort the buffered index entries and write them to a new run file, dropping duplicates
+     * from positions repeated within one game
+     */
+    private void spillRun() throws IOException {
+        sort(0, indexSize - 1);
+        Path run = indexFile.resolveSibling(indexFile.getFileName() + ".run" + runs.size());
+        runs.add(run);
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(run), 1 << 16))) {
+            for (int i = 0; i < indexSize; i++) {
+                if (i == 0 || indexHashes[i] != indexHashes[i - 1] || indexOffsets[i] != indexOffsets[i - 1]) {
+                    out.writeLong(indexHashes[i]);
+                    out.writeLong(indexOffsets[i]);
+                }
+            }
+        }
+        indexSize = 0;
+    }
+
+    /**
+     * Finish the games file and merge the sorted runs into the index
+     */
+    @Override
+    public void close() throws IOException {
+        games.close();
+        spillRun();
+
+        List<RunReader> readers = new ArrayList<>(runs.size());
+        PriorityQueue<RunReader> queue = new PriorityQueue<>();
+        try {
+            for (Path run : runs) {
+                RunReader reader = new RunReader(run);
+                readers.add(reader);
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+
+            long count = 0;
+            try (DataOutputStream index = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(indexFile), 1 << 16))) {
+                index.writeInt(INDEX_MAGIC);
+                index.writeInt(VERSION);
+                index.writeLong(0); // entry count, filled in below
+                while (!queue.isEmpty()) {
+                    RunReader reader = queue.poll();
+                    index.writeLong(reader.hash);
+                    index.writeLong(reader.gameOffset);
+                    count++;
+                    if (reader.advance()) {
+                        queue.add(reader);
+                    }
+                }
+            }
+            try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(8).putLong(0, count), 8);
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    /**
+     * Reads one sorted run during the merge; ordered by its current entry
+     */
+    private static class RunReader implements Comparable<RunReader>, AutoCloseable {
+        private final DataInputStream in;
+        private long remaining;
+        long hash;
+        long gameOffset;
+
+        RunReader(Path run) throws IOException {
+            this.remaining = Files.size(run) / INDEX_ENTRY_SIZE;
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), 1 << 16));
+        }
+
+        /**
+         * Move to the next entry, or return false at the end of the run
+         */
+        boolean advance() throws IOException {
+            if (remaining == 0) {
+                return false;
+            }
+            remaining--;
+            hash = in.readLong();
+            gameOffset = in.readLong();
+            return true;
+        }
+
+        @Override
+        public int compareTo(RunReader other) {
+            int c = Long.compare(hash, other.hash);
+            return c != 0 ? c : Long.compare(gameOffset, other.gameOffset);
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * Quicksort the index entries by hash, then offset
+     */
+    private void sort(int low, int high) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long pivotHash = indexHashes[mid];
+            long pivotOffset = indexOffsets[mid];
+            int i = low, j = high;
+            while (i <= j) {
+                while (compare(i, pivotHash, pivotOffset) < 0) i++;
+                while (compare(j, pivotHash, pivotOffset) > 0) j--;
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            // Recurse into the smaller half to bound the stack depth
+            if (j - low < high - i) {
+                sort(low, j);
+                low = i;
+            } else {
+                sort(i, high);
+                high = j;
+            }
+        }
+    }
+
+    private int compare(int i, long hash, long gameOffset) {
+        int c = Long.compare(indexHashes[i], hash);
+        return c != 0 ? c : Long.compare(indexOffsets[i], gameOffset);
+    }
+
+    private void swap(int i, int j) {
+        long hash = indexHashes[i];
+        indexHashes[i] = indexHashes[j];
+        indexHashes[j] = hash;
+        long gameOffset = indexOffsets[i];
+        indexOffsets[i] = indexOffsets[j];
+        indexOffsets[j] = gameOffset;
+    }
+}
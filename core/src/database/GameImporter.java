@@ -0,0 +1,102 @@
+// File: core/src/database/GameImporter.java
+package database;
+
+import exceptions.GameException;
+import game.Board;
+import game.Move;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Imports games from a text file into the binary database.
+ * Each line holds one game as coordinate moves ("e2e4 e7e5 ...") optionally followed
+ * by the result (1-0, 0-1, 1/2-1/2 or *).
+ */
+public class GameImporter {
+    private GameImporter() {
+    }
+
+    /**
+     * Parse a move in coordinate notation such as "e2e4"
+     */
+    public static Move parseMove(String text) throws GameException {
+        if (text.length() < 4) {
+            throw new GameException("Invalid move: " + text);
+        }
+        int fromCol = text.charAt(0) - 'a';
+        int fromRow = Board.SIZE - (text.charAt(1) - '0');
+        int toCol = text.charAt(2) - 'a';
+        int toRow = Board.SIZE - (text.charAt(3) - '0');
+        if (fromCol < 0 || fromCol >= Board.SIZE || fromRow < 0 || fromRow >= Board.SIZE
+                || toCol < 0 || toCol >= Board.SIZE || toRow < 0 || toRow >= Board.SIZE) {
+            throw new GameException("Invalid move: " + text);
+        }
+        return new Move(fromRow, fromCol, toRow, toCol);
+    }
+
+    /**
+     * Parse a result token, or return -1 if the token is not a result
+     */
+    public static byte parseResult(String token) {
+        switch (token) {
+            case "1-0": return GameRecord.RESULT_WHITE_WINS;
+            case "0-1": return GameRecord.RESULT_BLACK_WINS;
+            case "1/2-1/2": return GameRecord.RESULT_DRAW;
+            case "*": return GameRecord.RESULT_UNKNOWN;
+            default: return -1;
+        }
+    }
+
+    /**
+     * Import games: &lt;input&gt; &lt;games file&gt; &lt;index file&gt;
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: GameImporter <input> <games file> <index file>");
+            System.exit(1);
+        }
+
+        long start = System.nanoTime();
+        int imported = 0, skipped = 0;
+        long plies = 0;
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(args[0]), StandardCharsets.UTF_8);
+             GameDatabaseWriter writer = new GameDatabaseWriter(Paths.get(args[1]), Paths.get(args[2]))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+
+                String[] tokens = line.trim().split("\\s+");
+                List<Move> moves = new ArrayList<>(tokens.length);
+                byte result = GameRecord.RESULT_UNKNOWN;
+                try {
+                    for (String token : tokens) {
+                        byte parsed = parseResult(token);
+                        if (parsed >= 0) {
+                            result = parsed;
+                        } else {
+                            moves.add(parseMove(token));
+                        }
+                    }
+                    writer.addGame(moves, result);
+                    imported++;
+                    plies += moves.size();
+                } catch (GameException e) {
+                    System.err.println("Skipping line " + lineNumber + ": " + e.getMessage());
+                    skipped++;
+                }
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Imported %d games (%d plies), skipped %d in %.1f s: %.0f games/s, %.0f plies/s%n",
+                imported, plies, skipped, seconds, imported / seconds, plies / seconds);
+    }
+}
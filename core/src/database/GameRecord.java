@@ -0,0 +1,29 @@
+// File: core/src/database/GameRecord.java
+package database;
+
+import game.Move;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A stored game: its moves from the starting position and its result
+ */
+public class GameRecord {
+    public static final byte RESULT_UNKNOWN = 0;
+    public static final byte RESULT_WHITE_WINS = 1;
+    public static final byte RESULT_BLACK_WINS = 2;
+    public static final byte RESULT_DRAW = 3;
+
+    private final List<Move> moves;
+    private final byte result;
+
+    public GameRecord(List<Move> moves, byte result) {
+        this.moves = Collections.unmodifiableList(moves);
+        this.result = result;
+    }
+
+    // Getters
+    public List<Move> getMoves() { return moves; }
+    public byte getResult() { return result; }
+}
@@ -0,0 +1,56 @@
+// File: core/src/engine/Analyze.java
+package engine;
+
+import ai.ChessAI;
+import exceptions.GameException;
+import game.Board;
+import game.Move;
+
+import java.util.Arrays;
+
+/**
+ * Headless one-shot analysis: print the best move for a position and exit.
+ * Meant for short-lived processes started from the jlink image built by build.sh.
+ *
+ * <pre>
+ * Analyze [-movetime &lt;millis&gt;] [&lt;fen&gt;]
+ *   -> bestmove &lt;fromRow&gt; &lt;fromCol&gt; &lt;toRow&gt; &lt;toCol&gt; score &lt;score&gt; | none
+ * </pre>
+ */
+public class Analyze {
+    public static void main(String[] args) {
+        long moveTimeMillis = 0;
+        int index = 0;
+        if (args.length >= 2 && args[0].equals("-movetime")) {
+            moveTimeMillis = Long.parseLong(args[1]);
+            index = 2;
+        }
+
+        Board board;
+        try {
+            board = index < args.length
+                    ? Board.fromFen(String.join(" ", Arrays.copyOfRange(args, index, args.length)))
+                    : new Board();
+        } catch (GameException e) {
+            System.err.println("Invalid position: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        ChessAI ai = new ChessAI(board.getCurrentPlayer());
+        ai.setMoveTimeLimit(moveTimeMillis);
+        Move move = ai.getBestMove(board);
+
+        if (move == null) {
+            System.out.println("none");
+            return;
+        }
+        // Built by hand: the first indy string concatenation spins up method handle
+        // classes that CDS cannot archive, adding tens of milliseconds to startup
+        StringBuilder line = new StringBuilder("bestmove ")
+                .append(move.getFromRow()).append(' ').append(move.getFromCol()).append(' ')
+                .append(move.getToRow()).append(' ').append(move.getToCol())
+                .append(" score ").append(move.getScore());
+        System.out.println(line);
+    }
+}
@@ -0,0 +1,92 @@
+// File: core/src/engine/Bench.java
+package engine;
+
+import ai.ChessAI;
+import ai.EvalWeights;
+import exceptions.GameException;
+import game.Board;
+import game.Move;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Deterministic smoke benchmark: fixed-depth searches of a fixed set of positions.
+ * The total node count is a signature of the search and only changes when search
+ * behavior does; nodes per second compares hardware.
+ *
+ * <pre>
+ * Bench [&lt;threads&gt;]
+ * </pre>
+ */
+public class Bench {
+    // Position and search depth; a mix of openings, middlegames, tactics and endgames
+    private static final String[][] POSITIONS = {
+            {"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w - - 0 1", "5"},
+            {"r1bqkbnr/pppp1ppp/2n5/4p3/4P3/5N2/PPPP1PPP/RNBQKB1R w - - 2 3", "4"},
+            {"r3k2r/ppp2ppp/2n1bn2/2bpp3/4P3/2NP1N2/PPP1BPPP/R1BQK2R w - - 0 8", "4"},
+            {"r1bq1rk1/pp2bppp/2n1pn2/3p4/2PP4/2N1PN2/PP2BPPP/R2QKB1R b - - 0 8", "4"},
+            {"2r3k1/pp3ppp/2n1b3/3p4/3P4/2NB1N2/PP3PPP/2R3K1 w - - 0 20", "5"},
+            {"r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10", "4"},
+            {"6k1/5ppp/8/8/8/8/5PPP/3R2K1 w - - 0 1", "6"},
+            {"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1", "5"},
+            {"8/8/4k3/8/2p5/8/B2K4/8 w - - 0 1", "6"},
+            {"4k3/8/8/8/8/8/4P3/4K3 w - - 0 1", "7"},
+    };
+
+    public static void main(String[] args) throws GameException, InterruptedException, ExecutionException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+
+        // Parse everything up front so a bad position fails before any timing starts
+        List<Board> boards = new ArrayList<>(POSITIONS.length);
+        for (String[] position : POSITIONS) {
+            boards.add(Board.fromFen(position[0]));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<String>> results = new ArrayList<>(POSITIONS.length);
+        long[] nodes = new long[POSITIONS.length];
+        long start = System.nanoTime();
+        for (int i = 0; i < POSITIONS.length; i++) {
+            int index = i;
+            results.add(executor.submit(() -> search(boards.get(index), Integer.parseInt(POSITIONS[index][1]), nodes, index)));
+        }
+        for (int i = 0; i < POSITIONS.length; i++) {
+            System.out.printf("%2d depth %s %s%n", i + 1, POSITIONS[i][1], results.get(i).get());
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+
+        long totalNodes = 0;
+        for (long count : nodes) {
+            totalNodes += count;
+        }
+        System.out.printf("threads %d time %d ms%n", threads, elapsedNanos / 1_000_000);
+        System.out.printf("nodes %d nps %d%n", totalNodes, totalNodes * 1_000_000_000L / Math.max(1, elapsedNanos));
+    }
+
+    /**
+     * Search one position with a fresh AI, so the result does not depend on which
+     * thread ran it or what it searched before
+     */
+    private static String search(Board board, int depth, long[] nodes, int index) {
+        ChessAI ai = new ChessAI(board.getCurrentPlayer());
+        // Configured weights, networks and cached results would change the signature
+        ai.setWeights(EvalWeights.defaults());
+        ai.setNetwork(null);
+        ai.setPersistentStore(null);
+        ai.setMaxDepth(depth);
+
+        Move move = ai.getBestMove(board);
+        nodes[index] = ai.getNodeCount();
+        if (move == null) {
+            return "nodes " + nodes[index] + " bestmove none";
+        }
+        return "nodes " + nodes[index] + " bestmove " + move.getFromRow() + " " + move.getFromCol() + " "
+                + move.getToRow() + " " + move.getToCol() + " score " + move.getScore();
+    }
+}
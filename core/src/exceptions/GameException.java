@@ -1,5 +1,5 @@
 
-// File: src/exceptions/GameException.java
+// File: core/src/exceptions/GameException.java
 package exceptions;
 
 /**
@@ -1,4 +1,4 @@
-// File: src/exceptions/InvalidMoveException.java
+// File: core/src/exceptions/InvalidMoveException.java
 package exceptions;
 
 /**
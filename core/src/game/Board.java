@@ -0,0 +1,1013 @@
+// File: core/src/game/Board.java
+package game;
+
+import pieces.*;
+import exceptions.GameException;
+import exceptions.InvalidMoveException;
+import profiling.EngineCounters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents the chess board and manages the game state
+ */
+public class Board {
+    public static final int SIZE = 8;
+    private static final int FIFTY_MOVE_PLIES = 100;
+    private Piece[][] board;
+    private Player currentPlayer;
+    private boolean gameOver;
+    private King whiteKing;
+    private King blackKing;
+
+    // Position hash and halfmove clock, updated incrementally by make/unmake
+    private long hash;
+    private int halfmoveClock;
+
+    // Undo stack: one record per move made, spread over parallel arrays
+    private static final int UNDO_CAPACITY = 1024;
+    private int[] undoFrom;
+    private int[] undoTo;
+    private Piece[] undoMoved;
+    private Piece[] undoCaptured;
+    private boolean[] undoHadMoved;
+    private boolean[] undoGameOver;
+    private long[] undoHash;
+    private int[] undoClock;
+    // Promotion queens reused by the record that places them, two per record: white, then black
+    private Queen[] undoPromoted;
+    private int undoCount;
+    // Records below this index only hold hashes of positions before a restore
+    private int undoBase;
+
+    // Notified of every make/unmake, e.g. to update an evaluator incrementally
+    private MoveListener moveListener;
+
+    // Check and pin state of the side being generated for, filled in by findChecksAndPins
+    private int checkerCount;
+    private long checkMask;
+    private long pinnedBits;
+    private final long[] pinRays = new long[SIZE * SIZE];
+
+    // Scratch list of speculative gains for staticExchange, one entry per capture on the square
+    private final int[] exchangeGains = new int[SIZE * SIZE / 2 + 1];
+
+    // Kinds of moves to generate
+    private static final int ALL_MOVES = 0;
+    private static final int CAPTURES = 1;
+    private static final int QUIET_MOVES = 2;
+
+    // Piece steps and sliding directions used by move generation and the mobility counter
+    private static final int[][] KNIGHT_STEPS = {
+            {-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}
+    };
+    private static final int[][] KING_STEPS = {
+            {-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}
+    };
+    private static final int[][] ROOK_DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+    private static final int[][] BISHOP_DIRECTIONS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+
+    public Board() {
+        this(Player.WHITE);
+        initializeBoard();
+        this.hash = Zobrist.hash(this, currentPlayer);
+    }
+
+    private Board(Player currentPlayer) {
+        this.board = new Piece[SIZE][SIZE];
+        this.currentPlayer = currentPlayer;
+        this.gameOver = false;
+        this.undoFrom = new int[UNDO_CAPACITY];
+        this.undoTo = new int[UNDO_CAPACITY];
+        this.undoMoved = new Piece[UNDO_CAPACITY];
+        this.undoCaptured = new Piece[UNDO_CAPACITY];
+        this.undoHadMoved = new boolean[UNDO_CAPACITY];
+        this.undoGameOver = new boolean[UNDO_CAPACITY];
+        this.undoHash = new long[UNDO_CAPACITY];
+        this.undoClock = new int[UNDO_CAPACITY];
+        this.undoPromoted = new Queen[2 * UNDO_CAPACITY];
+    }
+
+    /**
+     * Create a board from a FEN string. Only piece placement, side to move and the
+     * halfmove clock are used; castling and en passant fields are ignored.
+     */
+    public static Board fromFen(String fen) throws GameException {
+        String[] fields = fen.trim().split("\\s+");
+        String[] ranks = fields[0].split("/");
+        if (ranks.length != SIZE) {
+            throw new GameException("FEN must have 8 ranks: " + fen);
+        }
+
+        Player sideToMove = (fields.length > 1 && fields[1].equals("b")) ? Player.BLACK : Player.WHITE;
+        Board result = new Board(sideToMove);
+        for (int row = 0; row < SIZE; row++) {
+            int col = 0;
+            for (char c : ranks[row].toCharArray()) {
+                if (Character.isDigit(c)) {
+                    col += c - '0';
+                } else {
+                    if (col >= SIZE) {
+                        throw new GameException("FEN rank too long: " + ranks[row]);
+                    }
+                    result.board[row][col] = result.createPiece(c, row, col);
+                    col++;
+                }
+            }
+            if (col != SIZE) {
+                throw new GameException("FEN rank has wrong length: " + ranks[row]);
+            }
+        }
+        if (result.whiteKing == null || result.blackKing == null) {
+            throw new GameException("FEN must contain both kings: " + fen);
+        }
+
+        if (fields.length > 4) {
+            try {
+                result.halfmoveClock = Integer.parseInt(fields[4]);
+            } catch (NumberFormatException e) {
+                throw new GameException("Invalid halfmove clock: " + fields[4], e);
+            }
+        }
+        result.hash = Zobrist.hash(result, sideToMove);
+        result.gameOver = !result.hasAnyLegalMove(sideToMove);
+        return result;
+    }
+
+    private Piece createPiece(char symbol, int row, int col) throws GameException {
+        Player player = Character.isUpperCase(symbol) ? Player.WHITE : Player.BLACK;
+        Piece piece;
+        switch (Character.toLowerCase(symbol)) {
+            case 'p':
+                piece = new Pawn(player, row, col);
+                // Pawns off their starting rank can no longer advance two squares
+                piece.setMoved(row != (player == Player.WHITE ? 6 : 1));
+                break;
+            case 'n': piece = new Knight(player, row, col); break;
+            case 'b': piece = new Bishop(player, row, col); break;
+            case 'r': piece = new Rook(player, row, col); break;
+            case 'q': piece = new Queen(player, row, col); break;
+            case 'k':
+                King king = new King(player, row, col);
+                if (player == Player.WHITE) {
+                    if (whiteKing != null) throw new GameException("FEN has two white kings");
+                    whiteKing = king;
+                } else {
+                    if (blackKing != null) throw new GameException("FEN has two black kings");
+                    blackKing = king;
+                }
+                piece = king;
+                break;
+            default:
+                throw new GameException("Unknown FEN piece: " + symbol);
+        }
+        return piece;
+    }
+
+    /**
+     * Initialize the chess board with pieces in starting positions
+     */
+    private void initializeBoard() {
+        // Place white pieces
+        board[7][0] = new Rook(Player.WHITE, 7, 0);
+        board[7][1] = new Knight(Player.WHITE, 7, 1);
+        board[7][2] = new Bishop(Player.WHITE, 7, 2);
+        board[7][3] = new Queen(Player.WHITE, 7, 3);
+        board[7][4] = whiteKing = new King(Player.WHITE, 7, 4);
+        board[7][5] = new Bishop(Player.WHITE, 7, 5);
+        board[7][6] = new Knight(Player.WHITE, 7, 6);
+        board[7][7] = new Rook(Player.WHITE, 7, 7);
+
+        for (int i = 0; i < SIZE; i++) {
+            board[6][i] = new Pawn(Player.WHITE, 6, i);
+        }
+
+        // Place black pieces
+        board[0][0] = new Rook(Player.BLACK, 0, 0);
+        board[0][1] = new Knight(Player.BLACK, 0, 1);
+        board[0][2] = new Bishop(Player.BLACK, 0, 2);
+        board[0][3] = new Queen(Player.BLACK, 0, 3);
+        board[0][4] = blackKing = new King(Player.BLACK, 0, 4);
+        board[0][5] = new Bishop(Player.BLACK, 0, 5);
+        board[0][6] = new Knight(Player.BLACK, 0, 6);
+        board[0][7] = new Rook(Player.BLACK, 0, 7);
+
+        for (int i = 0; i < SIZE; i++) {
+            board[1][i] = new Pawn(Player.BLACK, 1, i);
+        }
+    }
+
+    /**
+     * Make a move on the board
+     */
+    public boolean makeMove(int fromRow, int fromCol, int toRow, int toCol) throws InvalidMoveException {
+        if (!isValidPosition(fromRow, fromCol) || !isValidPosition(toRow, toCol)) {
+            throw new InvalidMoveException("Invalid board position");
+        }
+
+        Piece piece = board[fromRow][fromCol];
+        if (piece == null) {
+            throw new InvalidMoveException("No piece at source position");
+        }
+
+        if (piece.getPlayer() != currentPlayer) {
+            throw new InvalidMoveException("Not your piece");
+        }
+
+        if (!piece.isValidMove(toRow, toCol, this)) {
+            throw new InvalidMoveException("Invalid move for this piece");
+        }
+
+        make(fromRow, fromCol, toRow, toCol);
+
+        // Check if move would put own king in check
+        if (isKingInCheck(piece.getPlayer())) {
+            unmake();
+            throw new InvalidMoveException("Move would put king in check");
+        }
+
+        // Check for checkmate or stalemate
+        checkGameEnd();
+
+        return true;
+    }
+
+    /**
+     * Check if position is valid on the board
+     */
+    public boolean isValidPosition(int row, int col) {
+        return row >= 0 && row < SIZE && col >= 0 && col < SIZE;
+    }
+
+    /**
+     * Get piece at specified position
+     */
+    public Piece getPiece(int row, int col) {
+        if (isValidPosition(row, col)) {
+            return board[row][col];
+        }
+        return null;
+    }
+
+    /**
+     * Check if king is in check
+     */
+    public boolean isKingInCheck(Player player) {
+        if (EngineCounters.enabled) EngineCounters.KING_CHECK_TESTS.increment();
+        King king = (player == Player.WHITE) ? whiteKing : blackKing;
+        return isAttacked(king.getRow(), king.getCol(), player.getOpponent());
+    }
+
+    /**
+     * Get all valid moves for current player
+     */
+    public List<Move> getAllValidMoves(Player player) {
+        List<Move> validMoves = new ArrayList<>();
+        generateMoves(player, validMoves, ALL_MOVES);
+        return validMoves;
+    }
+
+    /**
+     * Add the player's legal captures to the list, in the same order as {@link #getAllValidMoves}
+     */
+    public void generateCaptures(Player player, List<Move> moves) {
+        generateMoves(player, moves, CAPTURES);
+    }
+
+    /**
+     * Add the player's legal non-capturing moves to the list, in the same order as {@link #getAllValidMoves}
+     */
+    public void generateQuietMoves(Player player, List<Move> moves) {
+        generateMoves(player, moves, QUIET_MOVES);
+    }
+
+    /**
+     * Generate legal moves without trying them: checks and pins are found once, then each
+     * piece's target squares are filtered as a bitmask. Moves come out ordered by from-square,
+     * then to-square, both row-major.
+     */
+    private void generateMoves(Player player, List<Move> moves, int kind) {
+        if (EngineCounters.enabled) EngineCounters.MOVE_GENERATIONS.increment();
+        findChecksAndPins(player);
+
+        for (int fromRow = 0; fromRow < SIZE; fromRow++) {
+            for (int fromCol = 0; fromCol < SIZE; fromCol++) {
+                Piece piece = board[fromRow][fromCol];
+                if (piece == null || piece.getPlayer() != player) continue;
+
+                long targets = legalTargets(piece, fromRow, fromCol, pseudoLegalTargets(piece, fromRow, fromCol));
+                for (; targets != 0; targets &= targets - 1) {
+                    int square = Long.numberOfTrailingZeros(targets);
+                    int toRow = square / SIZE;
+                    int toCol = square % SIZE;
+                    boolean capture = board[toRow][toCol] != null;
+                    if ((kind == CAPTURES && !capture) || (kind == QUIET_MOVES && capture)) continue;
+                    moves.add(new Move(fromRow, fromCol, toRow, toCol));
+                }
+            }
+        }
+    }
+
+    /**
+     * Check whether a move, e.g. one remembered from another position, is legal for the player here
+     */
+    public boolean isLegal(Move move, Player player) {
+        Piece piece = getPiece(move.getFromRow(), move.getFromCol());
+        int toRow = move.getToRow();
+        int toCol = move.getToCol();
+        if (piece == null || piece.getPlayer() != player || !isValidPosition(toRow, toCol)
+                || !piece.isValidMove(toRow, toCol, this)) {
+            return false;
+        }
+        findChecksAndPins(player);
+        return legalTargets(piece, move.getFromRow(), move.getFromCol(), 1L << (toRow * SIZE + toCol)) != 0;
+    }
+
+    /**
+     * Check whether the player has at least one legal move, stopping at the first piece that has one.
+     * The king is tried first, since in double check it is the only piece that can move.
+     */
+    public boolean hasAnyLegalMove(Player player) {
+        findChecksAndPins(player);
+        King king = (player == Player.WHITE) ? whiteKing : blackKing;
+        if (legalTargets(king, king.getRow(), king.getCol(), pseudoLegalTargets(king, king.getRow(), king.getCol())) != 0) {
+            return true;
+        }
+        if (checkerCount > 1) {
+            return false;
+        }
+
+        for (int fromRow = 0; fromRow < SIZE; fromRow++) {
+            for (int fromCol = 0; fromCol < SIZE; fromCol++) {
+                Piece piece = board[fromRow][fromCol];
+                if (piece == null || piece.getPlayer() != player || piece == king) continue;
+                if (legalTargets(piece, fromRow, fromCol, pseudoLegalTargets(piece, fromRow, fromCol)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Find the enemy pieces giving check to the player's king and the player's pieces pinned to it.
+     * Afterwards a non-king move is legal only if its target is in checkMask and, for a pinned
+     * piece, on its pin ray. With two checkers checkMask is empty, so only the king can move.
+     */
+    private void findChecksAndPins(Player player) {
+        King king = (player == Player.WHITE) ? whiteKing : blackKing;
+        int kingRow = king.getRow();
+        int kingCol = king.getCol();
+        Player enemy = player.getOpponent();
+        checkerCount = 0;
+        checkMask = -1L;
+        pinnedBits = 0;
+
+        // Enemy pawns attack the king from one row ahead of it
+        int pawnRow = kingRow + ((player == Player.WHITE) ? -1 : 1);
+        if (pawnRow >= 0 && pawnRow < SIZE) {
+            for (int pawnCol = kingCol - 1; pawnCol <= kingCol + 1; pawnCol += 2) {
+                Piece piece = getPiece(pawnRow, pawnCol);
+                if (piece instanceof Pawn && piece.getPlayer() == enemy) {
+                    addChecker(1L << (pawnRow * SIZE + pawnCol));
+                }
+            }
+        }
+        for (int[] step : KNIGHT_STEPS) {
+            Piece piece = getPiece(kingRow + step[0], kingCol + step[1]);
+            if (piece instanceof Knight && piece.getPlayer() == enemy) {
+                addChecker(1L << ((kingRow + step[0]) * SIZE + kingCol + step[1]));
+            }
+        }
+        // Only possible in a position set up that way, but isKingInCheck counts it
+        for (int[] step : KING_STEPS) {
+            Piece piece = getPiece(kingRow + step[0], kingCol + step[1]);
+            if (piece instanceof King && piece.getPlayer() == enemy) {
+                addChecker(1L << ((kingRow + step[0]) * SIZE + kingCol + step[1]));
+            }
+        }
+        findSliderChecksAndPins(player, kingRow, kingCol, ROOK_DIRECTIONS, true);
+        findSliderChecksAndPins(player, kingRow, kingCol, BISHOP_DIRECTIONS, false);
+    }
+
+    private void findSliderChecksAndPins(Player player, int kingRow, int kingCol, int[][] directions, boolean straight) {
+        for (int[] direction : directions) {
+            long ray = 0;
+            int pinnedSquare = -1;
+            int row = kingRow + direction[0];
+            int col = kingCol + direction[1];
+            while (row >= 0 && row < SIZE && col >= 0 && col < SIZE) {
+                int square = row * SIZE + col;
+                ray |= 1L << square;
+                Piece piece = board[row][col];
+                if (piece != null) {
+                    if (piece.getPlayer() == player) {
+                        if (pinnedSquare >= 0) break;
+                        pinnedSquare = square;
+                    } else {
+                        if (slidesAlong(piece, straight)) {
+                            if (pinnedSquare < 0) {
+                                addChecker(ray);
+                            } else {
+                                pinnedBits |= 1L << pinnedSquare;
+                                pinRays[pinnedSquare] = ray;
+                            }
+                        }
+                        break;
+                    }
+                }
+                row += direction[0];
+                col += direction[1];
+            }
+        }
+    }
+
+    /**
+     * Record a checker; the mask holds the squares that capture or block it
+     */
+    private void addChecker(long captureOrBlock) {
+        checkerCount++;
+        checkMask = checkerCount == 1 ? captureOrBlock : 0;
+    }
+
+    private static boolean slidesAlong(Piece piece, boolean straight) {
+        return piece instanceof Queen || (straight ? piece instanceof Rook : piece instanceof Bishop);
+    }
+
+    /**
+     * Drop the targets that would leave the mover's king in check; needs findChecksAndPins first
+     */
+    private long legalTargets(Piece piece, int row, int col, long targets) {
+        if (piece instanceof King) {
+            return safeKingTargets(piece.getPlayer(), row, col, targets);
+        }
+        targets &= checkMask;
+        int square = row * SIZE + col;
+        if ((pinnedBits & (1L << square)) != 0) {
+            targets &= pinRays[square];
+        }
+        return targets;
+    }
+
+    private long safeKingTargets(Player player, int row, int col, long targets) {
+        // Lift the king, so squares behind it on a checking ray are seen as attacked
+        Piece king = board[row][col];
+        board[row][col] = null;
+        long safe = 0;
+        for (long rest = targets; rest != 0; rest &= rest - 1) {
+            int square = Long.numberOfTrailingZeros(rest);
+            if (!isAttacked(square / SIZE, square % SIZE, player.getOpponent())) {
+                safe |= 1L << square;
+            }
+        }
+        board[row][col] = king;
+        return safe;
+    }
+
+    /**
+     * Squares the piece may move to by its own movement rules, ignoring its king's safety.
+     * Pawn rules stay in {@link Pawn}, so only its four candidate squares are checked there.
+     */
+    private long pseudoLegalTargets(Piece piece, int row, int col) {
+        Player player = piece.getPlayer();
+        if (piece instanceof Pawn) {
+            int direction = (player == Player.WHITE) ? -1 : 1;
+            long targets = 0;
+            for (int toCol = col - 1; toCol <= col + 1; toCol++) {
+                targets |= pawnTarget(piece, row + direction, toCol);
+            }
+            return targets | pawnTarget(piece, row + 2 * direction, col);
+        }
+        if (piece instanceof Knight) return stepTargets(player, row, col, KNIGHT_STEPS);
+        if (piece instanceof King) return stepTargets(player, row, col, KING_STEPS);
+        if (piece instanceof Rook) return slideTargets(player, row, col, ROOK_DIRECTIONS);
+        if (piece instanceof Bishop) return slideTargets(player, row, col, BISHOP_DIRECTIONS);
+        return slideTargets(player, row, col, ROOK_DIRECTIONS) | slideTargets(player, row, col, BISHOP_DIRECTIONS);
+    }
+
+    private long pawnTarget(Piece pawn, int toRow, int toCol) {
+        return pawn.isValidMove(toRow, toCol, this) ? 1L << (toRow * SIZE + toCol) : 0;
+    }
+
+    private long stepTargets(Player player, int row, int col, int[][] steps) {
+        long targets = 0;
+        for (int[] step : steps) {
+            int toRow = row + step[0];
+            int toCol = col + step[1];
+            if (toRow < 0 || toRow >= SIZE || toCol < 0 || toCol >= SIZE) continue;
+            Piece target = board[toRow][toCol];
+            if (target == null || target.getPlayer() != player) {
+                targets |= 1L << (toRow * SIZE + toCol);
+            }
+        }
+        return targets;
+    }
+
+    private long slideTargets(Player player, int row, int col, int[][] directions) {
+        long targets = 0;
+        for (int[] direction : directions) {
+            int toRow = row + direction[0];
+            int toCol = col + direction[1];
+            while (toRow >= 0 && toRow < SIZE && toCol >= 0 && toCol < SIZE) {
+                Piece target = board[toRow][toCol];
+                if (target != null && target.getPlayer() == player) break;
+                targets |= 1L << (toRow * SIZE + toCol);
+                if (target != null) break;
+                toRow += direction[0];
+                toCol += direction[1];
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Check whether any of the attacker's pieces could capture on the square
+     */
+    private boolean isAttacked(int row, int col, Player attacker) {
+        // Attacking pawns stand one row behind the square from their point of view
+        int pawnRow = row - ((attacker == Player.WHITE) ? -1 : 1);
+        if (pawnRow >= 0 && pawnRow < SIZE) {
+            for (int pawnCol = col - 1; pawnCol <= col + 1; pawnCol += 2) {
+                Piece piece = getPiece(pawnRow, pawnCol);
+                if (piece instanceof Pawn && piece.getPlayer() == attacker) return true;
+            }
+        }
+        for (int[] step : KNIGHT_STEPS) {
+            Piece piece = getPiece(row + step[0], col + step[1]);
+            if (piece instanceof Knight && piece.getPlayer() == attacker) return true;
+        }
+        for (int[] step : KING_STEPS) {
+            Piece piece = getPiece(row + step[0], col + step[1]);
+            if (piece instanceof King && piece.getPlayer() == attacker) return true;
+        }
+        return isAttackedBySlider(row, col, attacker, ROOK_DIRECTIONS, true)
+                || isAttackedBySlider(row, col, attacker, BISHOP_DIRECTIONS, false);
+    }
+
+    private boolean isAttackedBySlider(int row, int col, Player attacker, int[][] directions, boolean straight) {
+        for (int[] direction : directions) {
+            int fromRow = row + direction[0];
+            int fromCol = col + direction[1];
+            while (fromRow >= 0 && fromRow < SIZE && fromCol >= 0 && fromCol < SIZE) {
+                Piece piece = board[fromRow][fromCol];
+                if (piece != null) {
+                    if (piece.getPlayer() == attacker && slidesAlong(piece, straight)) return true;
+                    break;
+                }
+                fromRow += direction[0];
+                fromCol += direction[1];
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Static exchange evaluation of a capture: the material the mover comes out ahead, in pawns,
+     * when both sides keep recapturing on the target square with their least valuable piece and
+     * either may stop once going on would lose. Pieces lined up behind a capturer join in as it
+     * leaves (x-rays). Pins are ignored, and a king only recaptures on an undefended square.
+     */
+    public int staticExchange(Move move) {
+        int toRow = move.getToRow();
+        int toCol = move.getToCol();
+        Piece mover = board[move.getFromRow()][move.getFromCol()];
+        Piece victim = board[toRow][toCol];
+
+        int[] gains = exchangeGains;
+        gains[0] = victim != null ? victim.getValue() : 0;
+        long removed = 1L << (move.getFromRow() * SIZE + move.getFromCol());
+        int onSquare = mover.getValue();
+        Player side = mover.getPlayer().getOpponent();
+        int captures = 0;
+        while (true) {
+            int from = leastValuableAttacker(toRow, toCol, side, removed);
+            if (from < 0) break;
+            removed |= 1L << from;
+            Piece attacker = board[from / SIZE][from % SIZE];
+            if (attacker instanceof King && leastValuableAttacker(toRow, toCol, side.getOpponent(), removed) >= 0) break;
+
+            // Gain so far for this side if the next capturer is taken in turn
+            captures++;
+            gains[captures] = onSquare - gains[captures - 1];
+            onSquare = attacker.getValue();
+            side = side.getOpponent();
+        }
+
+        // Each side only captures if that beats stopping
+        for (; captures > 0; captures--) {
+            gains[captures - 1] = -Math.max(-gains[captures - 1], gains[captures]);
+        }
+        return gains[0];
+    }
+
+    /**
+     * Square of the side's least valuable piece attacking the square, skipping removed pieces, or -1
+     */
+    private int leastValuableAttacker(int row, int col, Player side, long removed) {
+        int pawnRow = row - ((side == Player.WHITE) ? -1 : 1);
+        for (int pawnCol = col - 1; pawnCol <= col + 1; pawnCol += 2) {
+            Piece piece = getPiece(pawnRow, pawnCol);
+            if (piece instanceof Pawn && piece.getPlayer() == side && (removed & (1L << (pawnRow * SIZE + pawnCol))) == 0) {
+                return pawnRow * SIZE + pawnCol;
+            }
+        }
+        for (int[] step : KNIGHT_STEPS) {
+            int fromRow = row + step[0];
+            int fromCol = col + step[1];
+            Piece piece = getPiece(fromRow, fromCol);
+            if (piece instanceof Knight && piece.getPlayer() == side && (removed & (1L << (fromRow * SIZE + fromCol))) == 0) {
+                return fromRow * SIZE + fromCol;
+            }
+        }
+
+        int best = -1;
+        int bestValue = Integer.MAX_VALUE;
+        for (int direction = 0; direction < 8; direction++) {
+            boolean straight = direction < 4;
+            int[] step = straight ? ROOK_DIRECTIONS[direction] : BISHOP_DIRECTIONS[direction - 4];
+            int fromRow = row + step[0];
+            int fromCol = col + step[1];
+            while (fromRow >= 0 && fromRow < SIZE && fromCol >= 0 && fromCol < SIZE) {
+                Piece piece = board[fromRow][fromCol];
+                if (piece != null && (removed & (1L << (fromRow * SIZE + fromCol))) == 0) {
+                    if (piece.getPlayer() == side && slidesAlong(piece, straight) && piece.getValue() < bestValue) {
+                        best = fromRow * SIZE + fromCol;
+                        bestValue = piece.getValue();
+                    }
+                    break;
+                }
+                fromRow += step[0];
+                fromCol += step[1];
+            }
+        }
+        if (best >= 0) {
+            return best;
+        }
+
+        for (int[] step : KING_STEPS) {
+            Piece piece = getPiece(row + step[0], col + step[1]);
+            if (piece instanceof King && piece.getPlayer() == side
+                    && (removed & (1L << ((row + step[0]) * SIZE + col + step[1]))) == 0) {
+                return (row + step[0]) * SIZE + col + step[1];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Pseudo-legal mobility: the number of squares the player's pieces could move to,
+     * ignoring checks and pins, so no moves are made or tested. Pawns count their pushes
+     * and captures; other pieces skip squares attacked by enemy pawns.
+     */
+    public int countMobility(Player player) {
+        long excluded = pawnAttacks(player.getOpponent());
+        int count = 0;
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                Piece piece = board[row][col];
+                if (piece == null || piece.getPlayer() != player) continue;
+
+                if (piece instanceof Pawn) {
+                    count += countPawnMoves(piece, row, col);
+                } else if (piece instanceof Knight) {
+                    count += countSteps(player, row, col, KNIGHT_STEPS, excluded);
+                } else if (piece instanceof King) {
+                    count += countSteps(player, row, col, KING_STEPS, excluded);
+                } else {
+                    if (!(piece instanceof Bishop)) {
+                        count += countSlides(player, row, col, ROOK_DIRECTIONS, excluded);
+                    }
+                    if (!(piece instanceof Rook)) {
+                        count += countSlides(player, row, col, BISHOP_DIRECTIONS, excluded);
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Squares attacked by the player's pawns, as bits (row * SIZE + col)
+     */
+    private long pawnAttacks(Player player) {
+        int direction = (player == Player.WHITE) ? -1 : 1;
+        long attacks = 0;
+        for (int row = 0; row < SIZE; row++) {
+            int targetRow = row + direction;
+            if (targetRow < 0 || targetRow >= SIZE) continue;
+            for (int col = 0; col < SIZE; col++) {
+                Piece piece = board[row][col];
+                if (piece instanceof Pawn && piece.getPlayer() == player) {
+                    if (col > 0) attacks |= 1L << (targetRow * SIZE + col - 1);
+                    if (col < SIZE - 1) attacks |= 1L << (targetRow * SIZE + col + 1);
+                }
+            }
+        }
+        return attacks;
+    }
+
+    private int countPawnMoves(Piece pawn, int row, int col) {
+        int direction = (pawn.getPlayer() == Player.WHITE) ? -1 : 1;
+        int targetRow = row + direction;
+        if (targetRow < 0 || targetRow >= SIZE) return 0;
+
+        int count = 0;
+        if (board[targetRow][col] == null) {
+            count++;
+            int doubleRow = targetRow + direction;
+            if (!pawn.hasMoved() && doubleRow >= 0 && doubleRow < SIZE && board[doubleRow][col] == null) {
+                count++;
+            }
+        }
+        for (int targetCol = col - 1; targetCol <= col + 1; targetCol += 2) {
+            if (targetCol < 0 || targetCol >= SIZE) continue;
+            Piece target = board[targetRow][targetCol];
+            if (target != null && target.getPlayer() != pawn.getPlayer()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int countSteps(Player player, int row, int col, int[][] steps, long excluded) {
+        int count = 0;
+        for (int[] step : steps) {
+            int toRow = row + step[0];
+            int toCol = col + step[1];
+            if (toRow < 0 || toRow >= SIZE || toCol < 0 || toCol >= SIZE) continue;
+            Piece target = board[toRow][toCol];
+            if ((target == null || target.getPlayer() != player)
+                    && (excluded & (1L << (toRow * SIZE + toCol))) == 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int countSlides(Player player, int row, int col, int[][] directions, long excluded) {
+        int count = 0;
+        for (int[] direction : directions) {
+            int toRow = row + direction[0];
+            int toCol = col + direction[1];
+            while (toRow >= 0 && toRow < SIZE && toCol >= 0 && toCol < SIZE) {
+                Piece target = board[toRow][toCol];
+                if (target != null && target.getPlayer() == player) break;
+                if ((excluded & (1L << (toRow * SIZE + toCol))) == 0) {
+                    count++;
+                }
+                if (target != null) break;
+                toRow += direction[0];
+                toCol += direction[1];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Make a move without checking it, pushing everything needed to take it back onto the undo stack.
+     * A pawn reaching the last rank is promoted to a queen.
+     */
+    public void make(Move move) {
+        make(move.getFromRow(), move.getFromCol(), move.getToRow(), move.getToCol());
+    }
+
+    /**
+     * Make a move given by its squares without checking it; see {@link #make(Move)}
+     */
+    public void make(int fromRow, int fromCol, int toRow, int toCol) {
+        if (undoCount == undoFrom.length) {
+            growUndoStack();
+        }
+
+        Piece piece = board[fromRow][fromCol];
+        Piece capturedPiece = board[toRow][toCol];
+        int index = undoCount++;
+        undoFrom[index] = fromRow * SIZE + fromCol;
+        undoTo[index] = toRow * SIZE + toCol;
+        undoMoved[index] = piece;
+        undoCaptured[index] = capturedPiece;
+        undoHadMoved[index] = piece.hasMoved();
+        undoGameOver[index] = gameOver;
+        undoHash[index] = hash;
+        undoClock[index] = halfmoveClock;
+
+        // Captures and pawn moves are irreversible
+        halfmoveClock = (capturedPiece != null || piece instanceof Pawn) ? 0 : halfmoveClock + 1;
+
+        hash ^= Zobrist.pieceKey(piece, fromRow, fromCol) ^ Zobrist.sideKey();
+        if (capturedPiece != null) {
+            hash ^= Zobrist.pieceKey(capturedPiece, toRow, toCol);
+        }
+
+        Piece placed = piece;
+        if (piece instanceof Pawn && (toRow == 0 || toRow == SIZE - 1)) {
+            placed = promotionQueen(index, piece.getPlayer());
+        }
+        board[toRow][toCol] = placed;
+        board[fromRow][fromCol] = null;
+        placed.setPosition(toRow, toCol);
+        placed.setMoved(true);
+        hash ^= Zobrist.pieceKey(placed, toRow, toCol);
+
+        currentPlayer = currentPlayer.getOpponent();
+        if (moveListener != null) {
+            moveListener.moveMade(piece, fromRow, fromCol, placed, toRow, toCol, capturedPiece);
+        }
+    }
+
+    /**
+     * Take back the last move made with {@link #make}
+     */
+    public void unmake() {
+        if (undoCount <= undoBase) {
+            throw new IllegalStateException("No move to take back");
+        }
+        int index = --undoCount;
+        int fromRow = undoFrom[index] / SIZE, fromCol = undoFrom[index] % SIZE;
+        int toRow = undoTo[index] / SIZE, toCol = undoTo[index] % SIZE;
+        Piece piece = undoMoved[index];
+
+        board[fromRow][fromCol] = piece;
+        board[toRow][toCol] = undoCaptured[index];
+        piece.setPosition(fromRow, fromCol);
+        piece.setMoved(undoHadMoved[index]);
+
+        // Release references so the stack does not keep captured pieces alive
+        undoMoved[index] = null;
+        undoCaptured[index] = null;
+
+        gameOver = undoGameOver[index];
+        hash = undoHash[index];
+        halfmoveClock = undoClock[index];
+        currentPlayer = currentPlayer.getOpponent();
+        if (moveListener != null) {
+            moveListener.moveUnmade();
+        }
+    }
+
+    /**
+     * Independent copy of the position, e.g. for searching on another thread.
+     * Repetition detection carries over, but moves made before the copy cannot be unmade on it.
+     */
+    public Board copy() {
+        Board copy = new Board(currentPlayer);
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                Piece piece = board[row][col];
+                if (piece != null) {
+                    Piece clone = newPiece(Zobrist.pieceIndex(piece), row, col);
+                    clone.setMoved(piece.hasMoved());
+                    if (clone instanceof King) {
+                        if (clone.getPlayer() == Player.WHITE) copy.whiteKing = (King) clone;
+                        else copy.blackKing = (King) clone;
+                    }
+                    copy.board[row][col] = clone;
+                }
+            }
+        }
+        copy.gameOver = gameOver;
+        copy.hash = hash;
+        copy.halfmoveClock = halfmoveClock;
+
+        int count = Math.min(halfmoveClock, undoCount);
+        while (copy.undoHash.length < count) {
+            copy.growUndoStack();
+        }
+        System.arraycopy(undoHash, undoCount - count, copy.undoHash, 0, count);
+        copy.undoCount = count;
+        copy.undoBase = count;
+        return copy;
+    }
+
+    /**
+     * Replace the position with a snapshot.
+     *
+     * @param squares     piece codes per square starting at offset: 0 for empty, otherwise
+     *                    1 + the piece kind index used by {@link Zobrist}
+     * @param movedBits   bit (row * SIZE + col) set for pieces that have moved
+     * @param priorHashes hashes of the positions before this one, oldest first, used for
+     *                    repetition detection; moves before the snapshot cannot be unmade
+     */
+    void restore(byte[] squares, int offset, long movedBits, Player sideToMove, int clock,
+                 boolean isGameOver, long[] priorHashes, int priorCount) {
+        whiteKing = null;
+        blackKing = null;
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                int square = row * SIZE + col;
+                int code = squares[offset + square];
+                Piece piece = code == 0 ? null : newPiece(code - 1, row, col);
+                if (piece != null) {
+                    piece.setMoved((movedBits & (1L << square)) != 0);
+                    if (piece instanceof King) {
+                        if (piece.getPlayer() == Player.WHITE) whiteKing = (King) piece;
+                        else blackKing = (King) piece;
+                    }
+                }
+                board[row][col] = piece;
+            }
+        }
+
+        currentPlayer = sideToMove;
+        halfmoveClock = clock;
+        gameOver = isGameOver;
+        hash = Zobrist.hash(this, sideToMove);
+
+        // Only positions since the last irreversible move matter for repetitions
+        Arrays.fill(undoMoved, 0, undoCount, null);
+        Arrays.fill(undoCaptured, 0, undoCount, null);
+        int count = Math.min(clock, priorCount);
+        while (undoHash.length < count) {
+            growUndoStack();
+        }
+        System.arraycopy(priorHashes, priorCount - count, undoHash, 0, count);
+        undoCount = count;
+        undoBase = count;
+        if (moveListener != null) {
+            moveListener.positionReset(this);
+        }
+    }
+
+    private static Piece newPiece(int kind, int row, int col) {
+        Player player = kind < 6 ? Player.WHITE : Player.BLACK;
+        switch (kind % 6) {
+            case 0: return new Pawn(player, row, col);
+            case 1: return new Knight(player, row, col);
+            case 2: return new Bishop(player, row, col);
+            case 3: return new Rook(player, row, col);
+            case 4: return new Queen(player, row, col);
+            default: return new King(player, row, col);
+        }
+    }
+
+    private void growUndoStack() {
+        int capacity = undoFrom.length * 2;
+        undoFrom = Arrays.copyOf(undoFrom, capacity);
+        undoTo = Arrays.copyOf(undoTo, capacity);
+        undoMoved = Arrays.copyOf(undoMoved, capacity);
+        undoCaptured = Arrays.copyOf(undoCaptured, capacity);
+        undoHadMoved = Arrays.copyOf(undoHadMoved, capacity);
+        undoGameOver = Arrays.copyOf(undoGameOver, capacity);
+        undoHash = Arrays.copyOf(undoHash, capacity);
+        undoClock = Arrays.copyOf(undoClock, capacity);
+        undoPromoted = Arrays.copyOf(undoPromoted, 2 * capacity);
+    }
+
+    /**
+     * Queen for a promotion made by the undo record at the index. A record's queen is only on
+     * the board while its move stands, so it is created once and reused by later moves that
+     * fill the same record; copy and restore build their boards from new pieces.
+     */
+    private Queen promotionQueen(int index, Player player) {
+        int slot = 2 * index + (player == Player.WHITE ? 0 : 1);
+        if (undoPromoted[slot] == null) {
+            undoPromoted[slot] = new Queen(player, 0, 0);
+        }
+        return undoPromoted[slot];
+    }
+
+    /**
+     * Check if the current position already occurred since the last irreversible move.
+     * Only positions with the same side to move are compared.
+     */
+    public boolean isRepetition() {
+        int limit = Math.min(halfmoveClock, undoCount);
+        for (int back = 4; back <= limit; back += 2) {
+            if (undoHash[undoCount - back] == hash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if fifty moves have passed without a capture or pawn move
+     */
+    public boolean isFiftyMoveDraw() {
+        return halfmoveClock >= FIFTY_MOVE_PLIES;
+    }
+
+    /**
+     * Check if game has ended (checkmate or stalemate)
+     */
+    private void checkGameEnd() {
+        if (!hasAnyLegalMove(currentPlayer)) {
+            gameOver = true;
+            if (isKingInCheck(currentPlayer)) {
+                System.out.println("Checkmate! " +
+                        (currentPlayer == Player.WHITE ? "Black" : "White") + " wins!");
+            } else {
+                System.out.println("Stalemate! It's a draw!");
+            }
+        }
+    }
+
+    // Getters
+    public Player getCurrentPlayer() { return currentPlayer; }
+    public boolean isGameOver() { return gameOver; }
+    public Piece[][] getBoardArray() { return board; }
+    public long getHash() { return hash; }
+    public void setMoveListener(MoveListener listener) { this.moveListener = listener; }
+    public int getHalfmoveClock() { return halfmoveClock; }
+}
\ No newline at end of file
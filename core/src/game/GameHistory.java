@@ -0,0 +1,102 @@
+// File: core/src/game/GameHistory.java
+package game;
+
+import pieces.Piece;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Record of a game as one compact snapshot per ply, so any earlier position
+ * can be restored directly instead of replaying the game from the start.
+ *
+ * Each snapshot is 64 bytes of piece codes plus the moved flags, hash, halfmove clock
+ * and game-over flag. Moves after the current ply are kept for redo until a new move
+ * is recorded.
+ */
+public class GameHistory {
+    private static final int SQUARES = Board.SIZE * Board.SIZE;
+
+    private final Player startingPlayer;
+    private byte[] squares;
+    private long[] movedBits;
+    private long[] hashes;
+    private int[] clocks;
+    private boolean[] gameOver;
+    private final List<Move> moves;
+    private int currentPly;
+
+    public GameHistory(Board start) {
+        this.startingPlayer = start.getCurrentPlayer();
+        this.squares = new byte[64 * SQUARES];
+        this.movedBits = new long[64];
+        this.hashes = new long[64];
+        this.clocks = new int[64];
+        this.gameOver = new boolean[64];
+        this.moves = new ArrayList<>();
+        capture(start, 0);
+    }
+
+    /**
+     * Record a move just played on the board; any undone moves are discarded
+     */
+    public void record(Move move, Board board) {
+        while (moves.size() > currentPly) {
+            moves.remove(moves.size() - 1);
+        }
+        moves.add(move);
+        currentPly++;
+        capture(board, currentPly);
+    }
+
+    /**
+     * Restore the board to the position after the given number of plies
+     */
+    public void jumpTo(int ply, Board board) {
+        if (ply < 0 || ply > moves.size()) {
+            throw new IndexOutOfBoundsException("Ply " + ply + " not in 0.." + moves.size());
+        }
+        Player side = (ply % 2 == 0) ? startingPlayer : startingPlayer.getOpponent();
+        board.restore(squares, ply * SQUARES, movedBits[ply], side, clocks[ply], gameOver[ply], hashes, ply);
+        currentPly = ply;
+    }
+
+    public boolean canUndo() { return currentPly > 0; }
+    public boolean canRedo() { return currentPly < moves.size(); }
+    public void undo(Board board) { jumpTo(currentPly - 1, board); }
+    public void redo(Board board) { jumpTo(currentPly + 1, board); }
+
+    // Getters
+    public int getCurrentPly() { return currentPly; }
+    public int getLastPly() { return moves.size(); }
+    public Move getMove(int ply) { return moves.get(ply - 1); }
+
+    private void capture(Board board, int ply) {
+        if (ply == hashes.length) {
+            int capacity = ply * 2;
+            squares = Arrays.copyOf(squares, capacity * SQUARES);
+            movedBits = Arrays.copyOf(movedBits, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            clocks = Arrays.copyOf(clocks, capacity);
+            gameOver = Arrays.copyOf(gameOver, capacity);
+        }
+
+        long moved = 0;
+        int offset = ply * SQUARES;
+        for (int row = 0; row < Board.SIZE; row++) {
+            for (int col = 0; col < Board.SIZE; col++) {
+                Piece piece = board.getPiece(row, col);
+                int square = row * Board.SIZE + col;
+                squares[offset + square] = piece == null ? 0 : (byte) (Zobrist.pieceIndex(piece) + 1);
+                if (piece != null && piece.hasMoved()) {
+                    moved |= 1L << square;
+                }
+            }
+        }
+        movedBits[ply] = moved;
+        hashes[ply] = board.getHash();
+        clocks[ply] = board.getHalfmoveClock();
+        gameOver[ply] = board.isGameOver();
+    }
+}
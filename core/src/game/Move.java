@@ -1,4 +1,4 @@
-// File: src/game/Move.java
+// File: core/src/game/Move.java
 package game;
 
 /**
@@ -0,0 +1,26 @@
+// File: core/src/game/MoveListener.java
+package game;
+
+import pieces.Piece;
+
+/**
+ * Receives every change made to a board through {@link Board#make} and {@link Board#unmake},
+ * for state kept in step with the position, such as an incrementally updated evaluation
+ */
+public interface MoveListener {
+    /**
+     * A move was made. The moved piece left the from square, the placed piece (the moved piece,
+     * or its promotion) now stands on the to square, and captured is the piece it replaced, if any.
+     */
+    void moveMade(Piece moved, int fromRow, int fromCol, Piece placed, int toRow, int toCol, Piece captured);
+
+    /**
+     * The last move was taken back
+     */
+    void moveUnmade();
+
+    /**
+     * The whole position was replaced
+     */
+    void positionReset(Board board);
+}
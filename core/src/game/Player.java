@@ -1,4 +1,4 @@
-// File: src/game/Player.java
+// File: core/src/game/Player.java
 package game;
 
 /**
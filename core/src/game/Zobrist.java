@@ -0,0 +1,75 @@
+// File: core/src/game/Zobrist.java
+package game;
+
+import pieces.*;
+import java.util.Random;
+
+/**
+ * Zobrist hashing keys for board positions.
+ * Keys come from a fixed seed so position hashes are stable across runs.
+ */
+public final class Zobrist {
+    private static final long SEED = 0x5EED_C4E5_5L;
+    private static final long[][] PIECE_KEYS = new long[12][Board.SIZE * Board.SIZE];
+    private static final long SIDE_KEY;
+
+    static {
+        Random random = new Random(SEED);
+        for (int piece = 0; piece < PIECE_KEYS.length; piece++) {
+            for (int square = 0; square < PIECE_KEYS[piece].length; square++) {
+                PIECE_KEYS[piece][square] = random.nextLong();
+            }
+        }
+        SIDE_KEY = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * Get the key for a piece standing on a square
+     */
+    public static long pieceKey(Piece piece, int row, int col) {
+        return PIECE_KEYS[pieceIndex(piece)][row * Board.SIZE + col];
+    }
+
+    /**
+     * Get the key toggled when the side to move changes
+     */
+    public static long sideKey() {
+        return SIDE_KEY;
+    }
+
+    /**
+     * Compute the full hash of a position from scratch
+     */
+    public static long hash(Board board, Player sideToMove) {
+        long hash = 0;
+        for (int row = 0; row < Board.SIZE; row++) {
+            for (int col = 0; col < Board.SIZE; col++) {
+                Piece piece = board.getPiece(row, col);
+                if (piece != null) {
+                    hash ^= pieceKey(piece, row, col);
+                }
+            }
+        }
+        if (sideToMove == Player.BLACK) {
+            hash ^= SIDE_KEY;
+        }
+        return hash;
+    }
+
+    /**
+     * Index of a piece kind: pawn, knight, bishop, rook, queen, king for white (0-5), then black (6-11)
+     */
+    public static int pieceIndex(Piece piece) {
+        int type;
+        if (piece instanceof Pawn) type = 0;
+        else if (piece instanceof Knight) type = 1;
+        else if (piece instanceof Bishop) type = 2;
+        else if (piece instanceof Rook) type = 3;
+        else if (piece instanceof Queen) type = 4;
+        else type = 5;
+        return piece.getPlayer() == Player.WHITE ? type : type + 6;
+    }
+}
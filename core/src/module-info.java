@@ -0,0 +1,20 @@
+// File: core/src/module-info.java
+
+/**
+ * The headless chess engine: rules, search, evaluation, game database and server.
+ * Has no desktop dependency, so it can be linked into a small runtime image.
+ */
+module chess.core {
+    requires jdk.jfr;
+    // Only read when started with --add-modules jdk.incubator.vector; see ai.NnueKernel
+    requires static jdk.incubator.vector;
+
+    exports ai;
+    exports database;
+    exports engine;
+    exports exceptions;
+    exports game;
+    exports pieces;
+    exports profiling;
+    exports server;
+}
@@ -1,4 +1,4 @@
-// File: src/pieces/Bishop.java
+// File: core/src/pieces/Bishop.java
 package pieces;
 
 import game.Board;
@@ -1,4 +1,4 @@
-// File: src/pieces/King.java
+// File: core/src/pieces/King.java
 package pieces;
 
 import game.Board;
@@ -1,4 +1,4 @@
-// File: src/pieces/Knight.java
+// File: core/src/pieces/Knight.java
 package pieces;
 
 import game.Board;
@@ -1,4 +1,4 @@
-// File: src/pieces/Pawn.java
+// File: core/src/pieces/Pawn.java
 package pieces;
 
 import game.Board;
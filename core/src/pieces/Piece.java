@@ -1,4 +1,4 @@
-// File: src/pieces/Piece.java
+// File: core/src/pieces/Piece.java
 package pieces;
 
 import game.Board;
@@ -1,5 +1,5 @@
 
-// File: src/pieces/Queen.java
+// File: core/src/pieces/Queen.java
 package pieces;
 
 import game.Board;
@@ -1,4 +1,4 @@
-// File: src/pieces/Rook.java
+// File: core/src/pieces/Rook.java
 package pieces;
 
 import game.Board;
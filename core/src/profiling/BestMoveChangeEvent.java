@@ -0,0 +1,30 @@
+// File: core/src/profiling/BestMoveChangeEvent.java
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The root search found a new best move
+ */
+@Name("chess.BestMoveChange")
+@Label("Best Move Change")
+@Category({"Chess", "Search"})
+@Enabled(false)
+@StackTrace(false)
+public class BestMoveChangeEvent extends jdk.jfr.Event {
+    @Label("Depth")
+    public int depth;
+
+    @Label("Move")
+    public String move;
+
+    @Label("Score")
+    public int score;
+
+    @Label("Previous Move")
+    public String previousMove;
+}
@@ -0,0 +1,63 @@
+// File: core/src/profiling/EngineCounters.java
+package profiling;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Work counters for the engine subsystems, reported by the periodic {@link EngineCountersEvent}.
+ *
+ * Counting only happens while that event is enabled in a running recording; otherwise each
+ * counting site costs a single read of {@link #enabled}.
+ */
+public final class EngineCounters {
+    /** Whether the counters are being recorded; checked before every increment */
+    public static volatile boolean enabled;
+
+    public static final LongAdder MOVE_GENERATIONS = new LongAdder();
+    public static final LongAdder KING_CHECK_TESTS = new LongAdder();
+    public static final LongAdder EVALUATIONS = new LongAdder();
+    public static final LongAdder SEARCH_NODES = new LongAdder();
+
+    private static EventType countersEventType;
+
+    private EngineCounters() {
+    }
+
+    /**
+     * Whether Flight Recorder is running. Callers skip creating events otherwise: loading the
+     * first event class initializes JFR metadata, which costs a few hundred milliseconds of
+     * startup in processes that never record.
+     */
+    public static boolean recording() {
+        return FlightRecorder.isInitialized();
+    }
+
+    /**
+     * Re-check whether the counters event is enabled; called once per search.
+     * The periodic event is registered the first time Flight Recorder is found running,
+     * so processes that never record do not pay for loading it.
+     */
+    public static synchronized void refresh() {
+        if (countersEventType == null) {
+            if (!FlightRecorder.isInitialized()) {
+                enabled = false;
+                return;
+            }
+            countersEventType = EventType.getEventType(EngineCountersEvent.class);
+            FlightRecorder.addPeriodicEvent(EngineCountersEvent.class, EngineCounters::emit);
+        }
+        enabled = countersEventType.isEnabled();
+    }
+
+    private static void emit() {
+        EngineCountersEvent event = new EngineCountersEvent();
+        event.moveGenerations = MOVE_GENERATIONS.sumThenReset();
+        event.kingCheckTests = KING_CHECK_TESTS.sumThenReset();
+        event.evaluations = EVALUATIONS.sumThenReset();
+        event.searchNodes = SEARCH_NODES.sumThenReset();
+        event.commit();
+    }
+}
@@ -0,0 +1,36 @@
+// File: core/src/profiling/EngineCountersEvent.java
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * Periodic snapshot of the work done by each engine subsystem since the previous snapshot
+ */
+@Name("chess.EngineCounters")
+@Label("Engine Counters")
+@Category({"Chess", "Engine"})
+@Description("Work done per subsystem since the previous event")
+@Period("1 s")
+@Enabled(false)
+@StackTrace(false)
+public class EngineCountersEvent extends jdk.jfr.Event {
+    @Label("Move Generations")
+    @Description("Move list generations: calls to Board.getAllValidMoves, generateCaptures and generateQuietMoves")
+    public long moveGenerations;
+
+    @Label("King Check Tests")
+    @Description("Calls to Board.isKingInCheck")
+    public long kingCheckTests;
+
+    @Label("Evaluations")
+    public long evaluations;
+
+    @Label("Search Nodes")
+    public long searchNodes;
+}
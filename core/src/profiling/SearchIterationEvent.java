@@ -0,0 +1,33 @@
+// File: core/src/profiling/SearchIterationEvent.java
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One completed depth of the root search
+ */
+@Name("chess.SearchIteration")
+@Label("Search Iteration")
+@Category({"Chess", "Search"})
+@Enabled(false)
+@StackTrace(false)
+public class SearchIterationEvent extends jdk.jfr.Event {
+    @Label("Depth")
+    public int depth;
+
+    @Label("Score")
+    public int score;
+
+    @Label("Nodes")
+    public long nodes;
+
+    @Label("Best Move")
+    public String bestMove;
+
+    @Label("Completed")
+    public boolean completed;
+}
@@ -0,0 +1,23 @@
+// File: core/src/profiling/SearchPhaseEvent.java
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An allocation-heavy phase of a search, for lining up with GC activity in a recording
+ */
+@Name("chess.SearchPhase")
+@Label("Search Phase")
+@Category({"Chess", "Search"})
+@Description("Phases that allocate heavily: root move generation, analysis line extraction")
+@Enabled(false)
+@StackTrace(false)
+public class SearchPhaseEvent extends jdk.jfr.Event {
+    @Label("Phase")
+    public String phase;
+}
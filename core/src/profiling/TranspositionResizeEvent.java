@@ -0,0 +1,22 @@
+// File: core/src/profiling/TranspositionResizeEvent.java
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A transposition table was allocated or resized
+ */
+@Name("chess.TranspositionResize")
+@Label("Transposition Table Resize")
+@Category({"Chess", "Search"})
+@Enabled(false)
+public class TranspositionResizeEvent extends jdk.jfr.Event {
+    @Label("Previous Entries")
+    public int previousEntries;
+
+    @Label("Entries")
+    public int entries;
+}
@@ -0,0 +1,201 @@
+// File: core/src/server/GameServer.java
+package server;
+
+import ai.Difficulty;
+import exceptions.GameException;
+import exceptions.InvalidMoveException;
+import game.Move;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Headless server hosting many games over a line-based local TCP protocol.
+ * Each connection is served by its own virtual thread; searches run on the
+ * shared {@link SearchScheduler}. A game lives until it is closed or the
+ * connection that created it ends.
+ *
+ * <pre>
+ * new [beginner|easy|medium|hard]         -> ok &lt;gameId&gt;
+ * move &lt;gameId&gt; &lt;fromRow&gt; &lt;fromCol&gt; &lt;toRow&gt; &lt;toCol&gt; -> ok | error &lt;message&gt;
+ * go &lt;gameId&gt;                           -> bestmove &lt;fromRow&gt; &lt;fromCol&gt; &lt;toRow&gt; &lt;toCol&gt; | none | busy
+ * close &lt;gameId&gt;                        -> ok
+ * quit
+ * </pre>
+ */
+public class GameServer {
+    public static final int DEFAULT_PORT = 7878;
+    private static final long DEFAULT_MOVE_TIME_MILLIS = 100;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private final ServerSocket serverSocket;
+    private final SearchScheduler scheduler;
+    private final ExecutorService connections;
+    private final Map<Long, GameSession> sessions;
+    private final AtomicLong nextGameId;
+    private final long moveTimeLimitMillis;
+
+    public GameServer(int port, int workerCount, int queueCapacity, long moveTimeLimitMillis) throws IOException {
+        this.serverSocket = new ServerSocket(port, 512, InetAddress.getLoopbackAddress());
+        this.scheduler = new SearchScheduler(workerCount, queueCapacity);
+        this.connections = Executors.newVirtualThreadPerTaskExecutor();
+        this.sessions = new ConcurrentHashMap<>();
+        this.nextGameId = new AtomicLong(1);
+        this.moveTimeLimitMillis = moveTimeLimitMillis;
+    }
+
+    /**
+     * Start accepting connections on a background thread
+     */
+    public void start() {
+        Thread acceptor = new Thread(this::acceptLoop, "game-server-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public void stop() throws IOException {
+        serverSocket.close();
+        connections.shutdownNow();
+        scheduler.shutdown();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("Accept error: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        // Games created on this connection, dropped when it ends however it ends
+        Set<Long> ownGames = new HashSet<>();
+        try (Socket s = socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(s.getInputStream(), StandardCharsets.US_ASCII));
+             PrintWriter out = new PrintWriter(s.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+            s.setTcpNoDelay(true);
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.trim().equals("quit")) {
+                    break;
+                }
+                out.println(handle(line.trim().split("\\s+"), ownGames));
+            }
+        } catch (IOException e) {
+            // Client went away
+        } finally {
+            for (Long id : ownGames) {
+                sessions.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Execute one protocol command and return the response line
+     *
+     * @param ownGames ids of the games created by the calling connection
+     */
+    private String handle(String[] command, Set<Long> ownGames) {
+        try {
+            switch (command[0]) {
+                case "new": {
+                    Difficulty difficulty = command.length > 1 ? parseDifficulty(command[1]) : null;
+                    long id = nextGameId.getAndIncrement();
+                    sessions.put(id, new GameSession(id, moveTimeLimitMillis, difficulty));
+                    ownGames.add(id);
+                    return "ok " + id;
+                }
+                case "move": {
+                    getSession(command[1]).makeMove(Integer.parseInt(command[2]), Integer.parseInt(command[3]),
+                            Integer.parseInt(command[4]), Integer.parseInt(command[5]));
+                    return "ok";
+                }
+                case "go": {
+                    CompletableFuture<Move> search = scheduler.submit(getSession(command[1]));
+                    if (search == null) {
+                        return "busy";
+                    }
+                    Move move = search.get();
+                    if (move == null) {
+                        return "none";
+                    }
+                    return "bestmove " + move.getFromRow() + " " + move.getFromCol() + " "
+                            + move.getToRow() + " " + move.getToCol();
+                }
+                case "close": {
+                    long id = Long.parseLong(command[1]);
+                    sessions.remove(id);
+                    ownGames.remove(id);
+                    return "ok";
+                }
+                default:
+                    return "error Unknown command";
+            }
+        } catch (InvalidMoveException | GameException e) {
+            return "error " + e.getMessage();
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            return "error Malformed command";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "error Interrupted";
+        } catch (ExecutionException e) {
+            return "error Search failed: " + e.getCause();
+        }
+    }
+
+    private static Difficulty parseDifficulty(String name) throws GameException {
+        for (Difficulty difficulty : Difficulty.values()) {
+            if (difficulty.name().equalsIgnoreCase(name)) {
+                return difficulty;
+            }
+        }
+        throw new GameException("Unknown difficulty " + name);
+    }
+
+    private GameSession getSession(String id) throws GameException {
+        GameSession session = sessions.get(Long.parseLong(id));
+        if (session == null) {
+            throw new GameException("Unknown game " + id);
+        }
+        return session;
+    }
+
+    /**
+     * Run the server: [port] [workers] [moveTimeMillis]
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long moveTime = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_MOVE_TIME_MILLIS;
+
+        GameServer server = new GameServer(port, workers, DEFAULT_QUEUE_CAPACITY, moveTime);
+        System.out.println("Chess server listening on port " + server.getPort()
+                + " with " + workers + " search workers");
+        server.acceptLoop();
+    }
+}
@@ -0,0 +1,100 @@
+// File: core/src/server/GameSession.java
+package server;
+
+import ai.ChessAI;
+import ai.Difficulty;
+import exceptions.InvalidMoveException;
+import game.Board;
+import game.Move;
+import game.Player;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * State of one game hosted by the server: its board and the AI for each side
+ */
+public class GameSession {
+    private final long id;
+    private final Board board;
+    private final long moveTimeLimitMillis;
+    private final Difficulty difficulty;
+    private final AtomicBoolean searching;
+    private ChessAI whiteAI;
+    private ChessAI blackAI;
+
+    public GameSession(long id, long moveTimeLimitMillis) {
+        this(id, moveTimeLimitMillis, null);
+    }
+
+    /**
+     * @param difficulty strength profile bounding each search, or null to search with just the time limit
+     */
+    public GameSession(long id, long moveTimeLimitMillis, Difficulty difficulty) {
+        this.id = id;
+        this.board = new Board();
+        this.moveTimeLimitMillis = moveTimeLimitMillis;
+        this.difficulty = difficulty;
+        this.searching = new AtomicBoolean(false);
+    }
+
+    /**
+     * Play a move for the side to move
+     */
+    public synchronized void makeMove(int fromRow, int fromCol, int toRow, int toCol) throws InvalidMoveException {
+        if (searching.get()) {
+            throw new InvalidMoveException("Search in progress");
+        }
+        if (board.isGameOver()) {
+            throw new InvalidMoveException("Game is over");
+        }
+        board.makeMove(fromRow, fromCol, toRow, toCol);
+    }
+
+    /**
+     * Search the best move for the side to move. Called on a search worker.
+     */
+    public synchronized Move search() {
+        if (board.isGameOver()) {
+            return null;
+        }
+        return getAI(board.getCurrentPlayer()).getBestMove(board);
+    }
+
+    /**
+     * Claim the session for a search; a game has at most one search queued or running
+     */
+    boolean tryStartSearch() {
+        return searching.compareAndSet(false, true);
+    }
+
+    void finishSearch() {
+        searching.set(false);
+    }
+
+    private ChessAI getAI(Player player) {
+        if (player == Player.WHITE) {
+            if (whiteAI == null) {
+                whiteAI = createAI(Player.WHITE);
+            }
+            return whiteAI;
+        }
+        if (blackAI == null) {
+            blackAI = createAI(Player.BLACK);
+        }
+        return blackAI;
+    }
+
+    private ChessAI createAI(Player player) {
+        ChessAI ai = new ChessAI(player);
+        if (difficulty != null) {
+            ai.setDifficulty(difficulty);
+        } else {
+            ai.setMoveTimeLimit(moveTimeLimitMillis);
+        }
+        return ai;
+    }
+
+    // Getters
+    public long getId() { return id; }
+    public synchronized boolean isGameOver() { return board.isGameOver(); }
+}
@@ -0,0 +1,153 @@
+// File: core/src/server/LoadGenerator.java
+package server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Synthetic load for {@link GameServer}: many clients each play engine-vs-engine games
+ * and the sustained move rate and move latency percentiles are reported.
+ */
+public class LoadGenerator {
+    private static final int MAX_PLIES_PER_GAME = 80;
+    private static final long BUSY_BACKOFF_MILLIS = 5;
+
+    private final int port;
+    private final int clients;
+    private final long durationMillis;
+    private final AtomicLong busyResponses = new AtomicLong();
+    private final AtomicLong gamesPlayed = new AtomicLong();
+
+    public LoadGenerator(int port, int clients, long durationMillis) {
+        this.port = port;
+        this.clients = clients;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Run all clients until the duration has passed and print the results
+     */
+    public void run() throws InterruptedException {
+        List<long[]> latencies = new ArrayList<>();
+        long[] counts = new long[clients];
+        long end = System.currentTimeMillis() + durationMillis;
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < clients; i++) {
+            long[] clientLatencies = new long[1 << 16];
+            latencies.add(clientLatencies);
+            int client = i;
+            executor.execute(() -> counts[client] = playGames(clientLatencies, end));
+        }
+        executor.shutdown();
+        executor.awaitTermination(durationMillis + 60_000, TimeUnit.MILLISECONDS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        // Merge the per-client samples
+        long total = Arrays.stream(counts).sum();
+        long[] all = new long[(int) total];
+        int offset = 0;
+        for (int i = 0; i < clients; i++) {
+            int n = (int) Math.min(counts[i], latencies.get(i).length);
+            System.arraycopy(latencies.get(i), 0, all, offset, n);
+            offset += n;
+        }
+        all = Arrays.copyOf(all, offset);
+        Arrays.sort(all);
+
+        System.out.printf("clients=%d games=%d moves=%d busy=%d time=%.1fs%n",
+                clients, gamesPlayed.get(), total, busyResponses.get(), seconds);
+        System.out.printf("moves/sec=%.1f p50=%.1fms p99=%.1fms max=%.1fms%n",
+                total / seconds, percentile(all, 0.50), percentile(all, 0.99), percentile(all, 1.0));
+    }
+
+    /**
+     * Play games on one connection until the end time, recording the latency of every engine move
+     */
+    private long playGames(long[] latencies, long end) {
+        long moves = 0;
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+            socket.setTcpNoDelay(true);
+            while (System.currentTimeMillis() < end) {
+                String gameId = request(in, out, "new").substring(3);
+                for (int ply = 0; ply < MAX_PLIES_PER_GAME && System.currentTimeMillis() < end; ply++) {
+                    long begin = System.nanoTime();
+                    String reply = request(in, out, "go " + gameId);
+                    if (reply.equals("busy")) {
+                        busyResponses.incrementAndGet();
+                        ply--;
+                        Thread.sleep(BUSY_BACKOFF_MILLIS);
+                        continue;
+                    }
+                    if (!reply.startsWith("bestmove")) {
+                        break;
+                    }
+                    if (moves < latencies.length) {
+                        latencies[(int) moves] = System.nanoTime() - begin;
+                    }
+                    moves++;
+                    request(in, out, "move " + gameId + reply.substring("bestmove".length()));
+                }
+                request(in, out, "close " + gameId);
+                gamesPlayed.incrementAndGet();
+            }
+            out.println("quit");
+        } catch (IOException e) {
+            System.err.println("Client error: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return moves;
+    }
+
+    private static String request(BufferedReader in, PrintWriter out, String command) throws IOException {
+        out.println(command);
+        String reply = in.readLine();
+        if (reply == null) {
+            throw new IOException("Server closed the connection");
+        }
+        return reply;
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    /**
+     * Run an in-process server under load: [clients] [seconds] [workers] [moveTimeMillis]
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        long seconds = args.length > 1 ? Long.parseLong(args[1]) : 10;
+        int workers = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long moveTime = args.length > 3 ? Long.parseLong(args[3]) : 20;
+
+        GameServer server = new GameServer(0, workers, clients, moveTime);
+        server.start();
+        try {
+            new LoadGenerator(server.getPort(), clients, seconds * 1000).run();
+        } finally {
+            server.stop();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+// File: core/src/server/SearchScheduler.java
+package server;
+
+import game.Move;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs searches on a bounded pool of CPU-bound workers.
+ * Requests are served first come, first served, and each game may have only one search
+ * queued or running so a single busy game cannot crowd out the others. When the queue
+ * is full new requests are rejected instead of piling up.
+ */
+public class SearchScheduler {
+    private final ThreadPoolExecutor workers;
+
+    public SearchScheduler(int workerCount, int queueCapacity) {
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "search-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Queue a search for the session
+     *
+     * @return the future best move, or null if the game already has a search pending
+     *         or the queue is full
+     */
+    public CompletableFuture<Move> submit(GameSession session) {
+        if (!session.tryStartSearch()) {
+            return null;
+        }
+
+        CompletableFuture<Move> result = new CompletableFuture<>();
+        try {
+            workers.execute(() -> {
+                // Release the session before replying so the client can move straight away;
+                // whatever the search throws, the session is released and the reply is sent
+                Move move = null;
+                Throwable failure = null;
+                try {
+                    move = session.search();
+                } catch (Throwable t) {
+                    failure = t;
+                } finally {
+                    session.finishSearch();
+                }
+                if (failure == null) {
+                    result.complete(move);
+                    return;
+                }
+                result.completeExceptionally(failure);
+                if (failure instanceof Error) {
+                    throw (Error) failure;
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            session.finishSearch();
+            return null;
+        }
+        return result;
+    }
+
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
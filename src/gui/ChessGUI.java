@@ -2,35 +2,55 @@
 package gui;
 
 import game.Board;
+import game.GameHistory;
 import game.Player;
 import game.Move;
 import pieces.Piece;
 import exceptions.InvalidMoveException;
 import ai.ChessAI;
+import ai.Difficulty;
+import ai.MoveHeatmap;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Main GUI class for the chess game
  */
 public class ChessGUI extends JFrame {
     private Board board;
+    private GameHistory history;
     private ChessSquare[][] squares;
     private ChessSquare selectedSquare;
     private JLabel statusLabel;
     private JButton newGameButton;
     private JButton aiModeButton;
+    private JButton undoButton;
+    private JButton redoButton;
+    private JToggleButton hintsButton;
+    private JComboBox<Difficulty> difficultyBox;
     private ChessAI ai;
     private boolean aiMode;
     private boolean aiThinking;
 
+    // Move quality hints for the position on screen, filled in as each move is scored
+    private MoveHeatmap heatmap;
+    private ForkJoinTask<Void> hintTask;
+    private final List<Move> hintMoves = new ArrayList<>();
+    private long hintedHash;
+    private int hintGeneration;
+
     private static final Color LIGHT_SQUARE = new Color(240, 217, 181);
     private static final Color DARK_SQUARE = new Color(181, 136, 99);
     private static final Color SELECTED_COLOR = new Color(255, 255, 0, 128);
     private static final Color VALID_MOVE_COLOR = new Color(0, 255, 0, 128);
+    // Scores beyond this are shaded as if they were this good or bad, so mates don't wash out the rest
+    private static final int HINT_SCORE_CAP = 500;
 
     public ChessGUI() {
         initializeComponents();
@@ -47,6 +67,7 @@ public class ChessGUI extends JFrame {
         board = new Board();
         squares = new ChessSquare[8][8];
         ai = new ChessAI(Player.BLACK);
+        heatmap = new MoveHeatmap();
         aiMode = false;
         aiThinking = false;
 
@@ -67,6 +88,18 @@ public class ChessGUI extends JFrame {
 
         aiModeButton = new JButton("Play vs AI");
         aiModeButton.addActionListener(e -> toggleAIMode());
+
+        undoButton = new JButton("◀ Undo");
+        undoButton.addActionListener(e -> undoMove());
+
+        redoButton = new JButton("Redo ▶");
+        redoButton.addActionListener(e -> redoMove());
+
+        hintsButton = new JToggleButton("Hints");
+        hintsButton.addActionListener(e -> refreshHints());
+
+        difficultyBox = new JComboBox<>(Difficulty.values());
+        difficultyBox.setSelectedItem(Difficulty.MEDIUM);
     }
 
     private void setupLayout() {
@@ -84,8 +117,13 @@ public class ChessGUI extends JFrame {
 
         // Control panel
         JPanel controlPanel = new JPanel(new FlowLayout());
+        controlPanel.add(undoButton);
         controlPanel.add(newGameButton);
         controlPanel.add(aiModeButton);
+        controlPanel.add(hintsButton);
+        controlPanel.add(new JLabel("Difficulty:"));
+        controlPanel.add(difficultyBox);
+        controlPanel.add(redoButton);
 
         // Status panel
         JPanel statusPanel = new JPanel(new BorderLayout());
@@ -101,70 +139,168 @@ public class ChessGUI extends JFrame {
 
     private void newGame() {
         board = new Board();
+        history = new GameHistory(board);
         selectedSquare = null;
         aiThinking = false;
         updateBoard();
         updateStatus();
     }
 
+    /**
+     * Step back one move, or in AI mode back to the previous position with White to move
+     */
+    private void undoMove() {
+        if (aiThinking || !history.canUndo()) return;
+
+        history.undo(board);
+        while (aiMode && board.getCurrentPlayer() == Player.BLACK && history.canUndo()) {
+            history.undo(board);
+        }
+        afterHistoryJump();
+    }
+
+    /**
+     * Step forward one undone move, or in AI mode forward past the AI's reply
+     */
+    private void redoMove() {
+        if (aiThinking || !history.canRedo()) return;
+
+        history.redo(board);
+        while (aiMode && board.getCurrentPlayer() == Player.BLACK && history.canRedo()) {
+            history.redo(board);
+        }
+        afterHistoryJump();
+    }
+
+    /**
+     * Refresh after the board jumped to a recorded position. The AI instance is kept,
+     * so its transposition table is still warm when it resumes from here.
+     */
+    private void afterHistoryJump() {
+        selectedSquare = null;
+        updateBoard();
+        updateStatus();
+        SwingUtilities.invokeLater(() -> makeAIMove());
+    }
+
     private void toggleAIMode() {
         aiMode = !aiMode;
         aiModeButton.setText(aiMode ? "Play vs Human" : "Play vs AI");
         newGame();
     }
 
+    /**
+     * Bring the squares in line with the board; only squares whose state changed are repainted
+     */
     private void updateBoard() {
+        boolean[][] validMoves = findValidMoves();
+        Color[][] hints = findHints();
+
         for (int row = 0; row < 8; row++) {
             for (int col = 0; col < 8; col++) {
-                squares[row][col].updatePiece(board.getPiece(row, col));
-                squares[row][col].setSelected(false);
-                squares[row][col].setValidMove(false);
+                squares[row][col].setState(board.getPiece(row, col),
+                        squares[row][col] == selectedSquare, validMoves[row][col], hints[row][col]);
             }
         }
+    }
 
-        if (selectedSquare != null) {
-            selectedSquare.setSelected(true);
-            highlightValidMoves();
+    /**
+     * Shade the scored moves from red (worst) to green (best): the destinations of the selected
+     * piece, or with nothing selected every piece by its best move
+     */
+    private Color[][] findHints() {
+        Color[][] hints = new Color[8][8];
+        if (hintMoves.isEmpty()) return hints;
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (Move move : hintMoves) {
+            int score = clampHintScore(move.getScore());
+            min = Math.min(min, score);
+            max = Math.max(max, score);
         }
 
-        repaint();
+        int[][] best = new int[8][8];
+        for (Move move : hintMoves) {
+            int score = clampHintScore(move.getScore());
+            if (selectedSquare == null) {
+                int row = move.getFromRow();
+                int col = move.getFromCol();
+                if (hints[row][col] == null || score > best[row][col]) {
+                    best[row][col] = score;
+                    hints[row][col] = hintColor(score, min, max);
+                }
+            } else if (move.getFromRow() == selectedSquare.getRow() && move.getFromCol() == selectedSquare.getCol()) {
+                hints[move.getToRow()][move.getToCol()] = hintColor(score, min, max);
+            }
+        }
+        return hints;
     }
 
-    private void highlightValidMoves() {
-        if (selectedSquare == null) return;
+    private static int clampHintScore(int score) {
+        return Math.max(-HINT_SCORE_CAP, Math.min(HINT_SCORE_CAP, score));
+    }
 
-        Piece piece = board.getPiece(selectedSquare.getRow(), selectedSquare.getCol());
-        if (piece == null || piece.getPlayer() != board.getCurrentPlayer()) return;
+    private static Color hintColor(int score, int min, int max) {
+        float quality = max == min ? 1f : (float) (score - min) / (max - min);
+        return Color.getHSBColor(quality / 3f, 0.45f, 0.95f);
+    }
 
-        for (int row = 0; row < 8; row++) {
-            for (int col = 0; col < 8; col++) {
-                try {
-                    if (piece.isValidMove(row, col, board)) {
-                        // Check if move doesn't put king in check
-                        Piece capturedPiece = board.getPiece(row, col);
-                        board.getBoardArray()[row][col] = piece;
-                        board.getBoardArray()[selectedSquare.getRow()][selectedSquare.getCol()] = null;
-                        piece.setPosition(row, col);
-
-                        boolean wouldBeInCheck = board.isKingInCheck(board.getCurrentPlayer());
-
-                        // Undo the temporary move
-                        board.getBoardArray()[selectedSquare.getRow()][selectedSquare.getCol()] = piece;
-                        board.getBoardArray()[row][col] = capturedPiece;
-                        piece.setPosition(selectedSquare.getRow(), selectedSquare.getCol());
-
-                        if (!wouldBeInCheck) {
-                            squares[row][col].setValidMove(true);
-                        }
-                    }
-                } catch (Exception e) {
-                    // Invalid move, continue
+    /**
+     * Start scoring every move of the position on screen when hints are on and a human is to move.
+     * Scores arrive on the EDT one move at a time, so the shading fills in progressively.
+     */
+    private void refreshHints() {
+        boolean wanted = hintsButton.isSelected() && !aiThinking && !board.isGameOver()
+                && !(aiMode && board.getCurrentPlayer() == Player.BLACK);
+        if (wanted && hintTask != null && hintedHash == board.getHash()) return;
+
+        if (hintTask != null) {
+            hintTask.cancel(false);
+            hintTask = null;
+        }
+        hintGeneration++;
+        boolean hadHints = !hintMoves.isEmpty();
+        hintMoves.clear();
+        if (hadHints) {
+            updateBoard();
+        }
+
+        if (wanted) {
+            int generation = hintGeneration;
+            hintedHash = board.getHash();
+            hintTask = heatmap.evaluate(board, move -> SwingUtilities.invokeLater(() -> {
+                if (generation == hintGeneration) {
+                    hintMoves.add(move);
+                    updateBoard();
                 }
+            }));
+        }
+    }
+
+    /**
+     * Find the destination squares of the selected piece
+     */
+    private boolean[][] findValidMoves() {
+        boolean[][] validMoves = new boolean[8][8];
+        if (selectedSquare == null) return validMoves;
+
+        Piece piece = board.getPiece(selectedSquare.getRow(), selectedSquare.getCol());
+        if (piece == null || piece.getPlayer() != board.getCurrentPlayer()) return validMoves;
+
+        for (Move move : board.getAllValidMoves(board.getCurrentPlayer())) {
+            if (move.getFromRow() == selectedSquare.getRow() && move.getFromCol() == selectedSquare.getCol()) {
+                validMoves[move.getToRow()][move.getToCol()] = true;
             }
         }
+        return validMoves;
     }
 
     private void updateStatus() {
+        undoButton.setEnabled(history.canUndo());
+        redoButton.setEnabled(history.canRedo());
+        refreshHints();
+
         if (board.isGameOver()) {
             if (board.isKingInCheck(board.getCurrentPlayer())) {
                 String winner = (board.getCurrentPlayer() == Player.WHITE) ? "Black" : "White";
@@ -190,6 +326,7 @@ public class ChessGUI extends JFrame {
         }
 
         aiThinking = true;
+        ai.setDifficulty((Difficulty) difficultyBox.getSelectedItem());
         updateStatus();
 
         SwingWorker<Move, Void> aiWorker = new SwingWorker<Move, Void>() {
@@ -205,6 +342,7 @@ public class ChessGUI extends JFrame {
                     if (aiMove != null) {
                         board.makeMove(aiMove.getFromRow(), aiMove.getFromCol(),
                                 aiMove.getToRow(), aiMove.getToCol());
+                        history.record(aiMove, board);
                     }
                 } catch (Exception e) {
                     System.err.println("AI move error: " + e.getMessage());
@@ -243,6 +381,8 @@ public class ChessGUI extends JFrame {
                 try {
                     board.makeMove(selectedSquare.getRow(), selectedSquare.getCol(),
                             clickedSquare.getRow(), clickedSquare.getCol());
+                    history.record(new Move(selectedSquare.getRow(), selectedSquare.getCol(),
+                            clickedSquare.getRow(), clickedSquare.getCol()), board);
                     selectedSquare = null;
                     updateBoard();
                     updateStatus();
@@ -4,15 +4,20 @@ package gui;
 import pieces.Piece;
 import javax.swing.*;
 import java.awt.*;
+import java.util.Objects;
 
 /**
  * Represents a single square on the chess board
  */
 public class ChessSquare extends JButton {
+    public static final int SQUARE_SIZE = 80;
+
     private int row, col;
     private Piece piece;
+    private String symbol;
     private boolean isSelected;
     private boolean isValidMove;
+    private Color hintColor;
     private Color baseColor;
 
     private static final Color LIGHT_SQUARE = new Color(240, 217, 181);
@@ -29,28 +34,39 @@ public class ChessSquare extends JButton {
         // Set base color (alternating pattern)
         baseColor = ((row + col) % 2 == 0) ? LIGHT_SQUARE : DARK_SQUARE;
 
-        setPreferredSize(new Dimension(80, 80));
-        setFont(new Font("Arial Unicode MS", Font.PLAIN, 40));
+        setPreferredSize(new Dimension(SQUARE_SIZE, SQUARE_SIZE));
         setBorder(BorderFactory.createLineBorder(Color.GRAY));
         setFocusPainted(false);
 
         updateAppearance();
     }
 
-    public void updatePiece(Piece piece) {
-        this.piece = piece;
-        setText(piece != null ? piece.getSymbol() : "");
-        updateAppearance();
-    }
-
-    public void setSelected(boolean selected) {
-        this.isSelected = selected;
-        updateAppearance();
+    /**
+     * Update piece, selection and highlight together, repainting only if something changed
+     *
+     * @param hint move quality shade drawn instead of the plain highlight, or null
+     */
+    public void setState(Piece piece, boolean selected, boolean validMove, Color hint) {
+        boolean pieceChanged = updatePieceIfChanged(piece);
+        if (selected != isSelected || validMove != isValidMove || !Objects.equals(hint, hintColor)) {
+            isSelected = selected;
+            isValidMove = validMove;
+            hintColor = hint;
+            updateAppearance();
+        } else if (pieceChanged) {
+            repaint();
+        }
     }
 
-    public void setValidMove(boolean validMove) {
-        this.isValidMove = validMove;
-        updateAppearance();
+    private boolean updatePieceIfChanged(Piece piece) {
+        String newSymbol = piece != null ? piece.getSymbol() : null;
+        this.piece = piece;
+        if (newSymbol == null ? symbol == null : newSymbol.equals(symbol)) {
+            return false;
+        }
+        symbol = newSymbol;
+        setIcon(symbol != null ? PieceImageCache.getIcon(symbol, SQUARE_SIZE) : null);
+        return true;
     }
 
     private void updateAppearance() {
@@ -58,20 +74,17 @@ public class ChessSquare extends JButton {
 
         if (isSelected) {
             backgroundColor = SELECTED_COLOR;
+        } else if (hintColor != null) {
+            backgroundColor = hintColor;
         } else if (isValidMove) {
             backgroundColor = VALID_MOVE_COLOR;
         }
 
         setBackground(backgroundColor);
-
-        // Set text color based on piece
-        if (piece != null) {
-            setForeground(piece.getPlayer() == game.Player.WHITE ? Color.BLACK : Color.BLACK);
-        }
     }
 
     // Getters
     public int getRow() { return row; }
     public int getCol() { return col; }
     public Piece getPiece() { return piece; }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+// File: src/gui/PieceImageCache.java
+package gui;
+
+import javax.swing.ImageIcon;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caches pre-rasterized piece glyphs so squares draw an image instead of laying out text
+ */
+public class PieceImageCache {
+    private static final String FONT_NAME = "Arial Unicode MS";
+    private static final Map<String, ImageIcon> cache = new HashMap<>();
+
+    private PieceImageCache() {
+    }
+
+    /**
+     * Get the glyph image for a piece symbol at the given square size, rasterizing it on first use
+     */
+    public static ImageIcon getIcon(String symbol, int size) {
+        String key = symbol + "@" + size;
+        ImageIcon icon = cache.get(key);
+        if (icon == null) {
+            icon = new ImageIcon(rasterize(symbol, size));
+            cache.put(key, icon);
+        }
+        return icon;
+    }
+
+    private static BufferedImage rasterize(String symbol, int size) {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setFont(new Font(FONT_NAME, Font.PLAIN, size / 2));
+            g.setColor(Color.BLACK);
+
+            // Center the glyph in the image
+            FontMetrics metrics = g.getFontMetrics();
+            int x = (size - metrics.stringWidth(symbol)) / 2;
+            int y = (size - metrics.getHeight()) / 2 + metrics.getAscent();
+            g.drawString(symbol, x, y);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+}